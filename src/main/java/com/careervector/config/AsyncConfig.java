@@ -0,0 +1,77 @@
+package com.careervector.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Background refresh of student_job_scores; few threads so it never crowds out request traffic to FastAPI
+    @Bean(name = "scoreRefreshExecutor")
+    public ThreadPoolTaskExecutor scoreRefreshExecutor(@Value("${scores.refresh.threads:2}") int threads,
+                                                       @Value("${scores.refresh.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("score-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs live FastAPI scoring so the request thread can stop waiting at its deadline.
+    // Bounded: when FastAPI is stuck, new requests are rejected here and served keyword scores.
+    @Bean(name = "aiScoringExecutor")
+    public ThreadPoolTaskExecutor aiScoringExecutor(@Value("${ai.scoring.threads:16}") int threads,
+                                                    @Value("${ai.scoring.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-scoring-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Chunks of a large /rank-candidates-summary call; the thread count is how many chunks are in flight at once
+    @Bean(name = "rankingChunkExecutor")
+    public ThreadPoolTaskExecutor rankingChunkExecutor(@Value("${ranking.chunk.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("ranking-chunk-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Sends auto-shortlist decisions to FastAPI's learning endpoint after they commit, off the request thread
+    @Bean(name = "decisionSyncExecutor")
+    public ThreadPoolTaskExecutor decisionSyncExecutor(@Value("${ai.decision-sync.threads:4}") int threads,
+                                                       @Value("${ai.decision-sync.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("decision-sync-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs the AI proxy endpoints' FastAPI calls; the request thread returns to Tomcat while FastAPI works.
+    // Virtual threads, so waiting calls cost no platform threads. Bounded at ai.gateway.max-concurrent tasks:
+    // past that, submitting blocks the caller until one finishes. The per-path bulkheads in FastApiResilience
+    // bound what actually reaches FastAPI.
+    @Bean(name = "aiGatewayExecutor")
+    public AsyncTaskExecutor aiGatewayExecutor(@Value("${ai.gateway.max-concurrent:512}") int maxConcurrent) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-gateway-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrent);
+        return executor;
+    }
+}
@@ -0,0 +1,104 @@
+package com.careervector.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Apache HttpClient 5 connection pools, one per outbound destination (fastapi, brevo, supabase), so a slow
+ * AI server cannot use up the connections that e-mail or storage calls need. Each destination is tuned with
+ * {@code http.<destination>.*} properties: max-connections, connect-timeout-ms, read-timeout-ms (socket
+ * inactivity), response-timeout-ms and pool-timeout-ms (wait for a free connection).
+ */
+@Component
+public class HttpClientPools implements DisposableBean {
+
+    @Autowired private Environment env;
+
+    private final Map<String, PoolingHttpClientConnectionManager> pools = new ConcurrentHashMap<>();
+    private final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    /** Request factory backed by the named destination's pool; the defaults apply when no property is set. */
+    public HttpComponentsClientHttpRequestFactory requestFactory(String destination, int defaultMaxConnections,
+                                                                 long defaultReadTimeoutMs) {
+        int maxConnections = property(destination, "max-connections", defaultMaxConnections);
+        long connectTimeoutMs = property(destination, "connect-timeout-ms", 5_000L);
+        long readTimeoutMs = property(destination, "read-timeout-ms", defaultReadTimeoutMs);
+        long responseTimeoutMs = property(destination, "response-timeout-ms", defaultReadTimeoutMs);
+        long poolTimeoutMs = property(destination, "pool-timeout-ms", 2_000L);
+
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                // Every request in a pool goes to the same host, so one route may use the whole pool
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        pools.put(destination, pool);
+        clients.put(destination, client);
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+    /** Leased / available / pending / max connections for every destination. */
+    public Map<String, Map<String, Integer>> stats() {
+        Map<String, Map<String, Integer>> stats = new LinkedHashMap<>();
+        pools.forEach((destination, pool) -> {
+            PoolStats total = pool.getTotalStats();
+            Map<String, Integer> row = new LinkedHashMap<>();
+            row.put("leased", total.getLeased());
+            row.put("available", total.getAvailable());
+            row.put("pending", total.getPending());
+            row.put("max", total.getMax());
+            stats.put(destination, row);
+        });
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        clients.forEach((destination, client) -> {
+            try {
+                client.close();
+            } catch (IOException e) {
+                System.err.println("Could not close HTTP pool " + destination + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private <T> T property(String destination, String name, T defaultValue) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) defaultValue.getClass();
+        return env.getProperty("http." + destination + "." + name, type, defaultValue);
+    }
+}
@@ -1,15 +1,64 @@
 package com.careervector.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.Duration;
+
 @Configuration
-public class RedisConfig {
+public class RedisConfig implements DisposableBean {
+
+    private LettuceConnectionFactory cacheConnectionFactory;
 
     @Bean
+    @Primary
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
         return new StringRedisTemplate(redisConnectionFactory);
     }
-}
\ No newline at end of file
+
+    /**
+     * Template for the AI result caches (AiScoreCache, AiReportCache), which call Redis on the request path.
+     * Same server, but its own connection with a command timeout of {@code ai.cache.redis.timeout-ms}: a slow
+     * or unreachable Redis becomes a cache miss within tens of milliseconds instead of holding the request
+     * for spring.data.redis.timeout. The factory is kept out of the context so Boot's own one is unaffected.
+     */
+    @Bean
+    public StringRedisTemplate cacheRedisTemplate(RedisProperties properties,
+                                                  @Value("${ai.cache.redis.timeout-ms:50}") long timeoutMs,
+                                                  @Value("${ai.cache.redis.connect-timeout-ms:2000}") long connectTimeoutMs) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        server.setDatabase(properties.getDatabase());
+        server.setUsername(properties.getUsername());
+        server.setPassword(properties.getPassword());
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(timeoutMs))
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                                .build())
+                        .build());
+        if (properties.getSsl().isEnabled()) client.useSsl();
+
+        cacheConnectionFactory = new LettuceConnectionFactory(server, client.build());
+        cacheConnectionFactory.afterPropertiesSet();
+        cacheConnectionFactory.start();
+        return new StringRedisTemplate(cacheConnectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (cacheConnectionFactory != null) cacheConnectionFactory.destroy();
+    }
+}
@@ -0,0 +1,92 @@
+package com.careervector.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional gzip compression of outbound request bodies, per destination. Off unless
+ * {@code http.<destination>.compression.enabled=true}, because the receiving server has to accept
+ * {@code Content-Encoding: gzip} request bodies. Bodies under {@code compression.min-bytes} go out as they are;
+ * {@code compression.level} is the Deflater level (1 = fastest).
+ */
+@Component
+public class RequestCompression {
+
+    @Autowired private Environment env;
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private static final class Counters {
+        final AtomicLong compressed = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicLong bytesIn = new AtomicLong();
+        final AtomicLong bytesOut = new AtomicLong();
+        final AtomicLong nanos = new AtomicLong();
+    }
+
+    /** Adds the compressing interceptor to the template when the destination has compression enabled. */
+    public void register(RestTemplate restTemplate, String destination) {
+        if (!env.getProperty("http." + destination + ".compression.enabled", Boolean.class, false)) return;
+        int minBytes = env.getProperty("http." + destination + ".compression.min-bytes", Integer.class, 4096);
+        int level = env.getProperty("http." + destination + ".compression.level", Integer.class, 1);
+        Counters stats = counters.computeIfAbsent(destination, d -> new Counters());
+
+        ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+            if (body.length < minBytes || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                stats.skipped.incrementAndGet();
+                return execution.execute(request, body);
+            }
+            long start = System.nanoTime();
+            byte[] gzipped = gzip(body, level);
+            stats.nanos.addAndGet(System.nanoTime() - start);
+            stats.compressed.incrementAndGet();
+            stats.bytesIn.addAndGet(body.length);
+            stats.bytesOut.addAndGet(gzipped.length);
+
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            request.getHeaders().setContentLength(gzipped.length);
+            return execution.execute(request, gzipped);
+        };
+        restTemplate.getInterceptors().add(interceptor);
+    }
+
+    /** Per destination: compressed / skipped request counts, bytes before and after, ratio and mean gzip time. */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        counters.forEach((destination, c) -> {
+            long in = c.bytesIn.get();
+            long count = c.compressed.get();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("compressed", count);
+            row.put("skipped", c.skipped.get());
+            row.put("bytesIn", in);
+            row.put("bytesOut", c.bytesOut.get());
+            row.put("ratio", in == 0 ? 1.0 : (double) c.bytesOut.get() / in);
+            row.put("avgCompressMicros", count == 0 ? 0 : c.nanos.get() / count / 1_000);
+            stats.put(destination, row);
+        });
+        return stats;
+    }
+
+    private static byte[] gzip(byte[] body, int level) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 8192) {
+            { def.setLevel(level); }
+        }) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
+    }
+}
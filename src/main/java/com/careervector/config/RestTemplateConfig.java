@@ -7,8 +7,23 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+    // AI calls (ranking, matching, reports) can run for a long time; keep the read timeout generous
+    // Ranking and matching payloads carry full JD text; http.fastapi.compression.enabled gzips them
     @Bean(name = "fastApiRestTemplate")
-    public RestTemplate fastApiRestTemplate() {
-        return new RestTemplate();
+    public RestTemplate fastApiRestTemplate(HttpClientPools pools, RequestCompression compression) {
+        RestTemplate restTemplate = new RestTemplate(pools.requestFactory("fastapi", 50, 120_000));
+        compression.register(restTemplate, "fastapi");
+        return restTemplate;
     }
-}
\ No newline at end of file
+
+    @Bean(name = "brevoRestTemplate")
+    public RestTemplate brevoRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory("brevo", 10, 15_000));
+    }
+
+    // Resume and photo uploads go up to 50MB
+    @Bean(name = "supabaseRestTemplate")
+    public RestTemplate supabaseRestTemplate(HttpClientPools pools) {
+        return new RestTemplate(pools.requestFactory("supabase", 20, 60_000));
+    }
+}
@@ -0,0 +1,21 @@
+package com.careervector.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// StreamingResponseBody writers (proxied FastAPI bodies, the cohort matrix) run on the AI gateway executor,
+// which is bounded by ai.gateway.max-concurrent, instead of Spring MVC's default SimpleAsyncTaskExecutor
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    @Autowired @Qualifier("aiGatewayExecutor") private AsyncTaskExecutor aiGatewayExecutor;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(aiGatewayExecutor);
+    }
+}
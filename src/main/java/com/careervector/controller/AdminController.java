@@ -1,20 +1,29 @@
 //AdminController.java
 package com.careervector.controller;
 
+import com.careervector.config.HttpClientPools;
+import com.careervector.config.RequestCompression;
 import com.careervector.dto.LoginData;
 import com.careervector.model.Admin;
 import com.careervector.service.AdminService;
+import com.careervector.service.AiGatewayService;
+import com.careervector.service.AiReportCache;
+import com.careervector.service.CohortMatchService;
+import com.careervector.service.FastApiResilience;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import com.careervector.service.JobService;
 @RestController
 @RequestMapping("/api/admin")
@@ -27,6 +36,9 @@ public class AdminController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CohortMatchService cohortMatchService;
+
     @PostMapping("/send-otp")
     public ResponseEntity<?> sendOtp(@RequestBody Map<String, String> payload) {
         String email = payload.get("email");
@@ -91,24 +103,37 @@ public class AdminController {
     }
     
     
+    // Students x active jobs keyword match matrix, scored in parallel and streamed row by row
+    @GetMapping("/cohort-match/{college_name}")
+    public ResponseEntity<StreamingResponseBody> getCohortMatch(@PathVariable("college_name") String college_name) {
+        CohortMatchService.CohortMatrix matrix = cohortMatchService.computeCohortMatrix(college_name);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> cohortMatchService.writeJson(matrix, out));
+    }
+
+    // --- FastAPI analytics: futures, so no Tomcat thread waits on FastAPI; the response bytes are passed through ---
+    @Autowired
+    private AiGatewayService aiGatewayService;
+
     @GetMapping("/top-students")
-    public ResponseEntity<Object> getTopStudents(@RequestParam("collegeName") String collegeName) {
-        return ResponseEntity.ok(adminService.fetchTopStudents(collegeName));
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getTopStudents(@RequestParam("collegeName") String collegeName) {
+        return aiGatewayService.topStudents(collegeName);
     }
 
     @GetMapping("/at-risk-students")
-    public ResponseEntity<Object> getAtRiskStudents(@RequestParam("collegeName") String collegeName) {
-        return ResponseEntity.ok(adminService.fetchAtRiskStudents(collegeName));
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getAtRiskStudents(@RequestParam("collegeName") String collegeName) {
+        return aiGatewayService.atRiskStudents(collegeName);
     }
 
     @GetMapping("/skill-gap-trends")
-    public ResponseEntity<Object> getSkillGapTrends(@RequestParam("collegeName") String collegeName) {
-        return ResponseEntity.ok(adminService.fetchSkillGapTrends(collegeName));
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getSkillGapTrends(@RequestParam("collegeName") String collegeName) {
+        return aiGatewayService.skillGapTrends(collegeName);
     }
 
     @GetMapping("/student-progression/{studentId}")
-    public ResponseEntity<Object> getStudentProgression(@PathVariable("studentId") String studentId) {
-        return ResponseEntity.ok(adminService.fetchStudentProgression(studentId));
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getStudentProgression(@PathVariable("studentId") String studentId) {
+        return aiGatewayService.studentProgression(studentId);
     }
     
     @Autowired
@@ -118,13 +143,50 @@ public class AdminController {
     public ResponseEntity<?> getAllJobs() {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
+
+    // Active postings whose descriptions are near-duplicates of each other
+    @GetMapping("/duplicate-jobs")
+    public ResponseEntity<?> getDuplicateJobs() {
+        return ResponseEntity.ok(jobService.getDuplicateJobGroups());
+    }
+    @Autowired
+    private HttpClientPools httpClientPools;
+
+    @GetMapping("/http-pools")
+    public ResponseEntity<?> getHttpPoolStats() {
+        return ResponseEntity.ok(httpClientPools.stats());
+    }
+
+    @Autowired
+    private RequestCompression requestCompression;
+
+    @GetMapping("/request-compression")
+    public ResponseEntity<?> getRequestCompressionStats() {
+        return ResponseEntity.ok(requestCompression.stats());
+    }
+
+    @Autowired
+    private FastApiResilience fastApiResilience;
+
+    @GetMapping("/ai-resilience")
+    public ResponseEntity<?> getAiResilienceStats() {
+        return ResponseEntity.ok(fastApiResilience.stats());
+    }
+
+    @Autowired
+    private AiReportCache aiReportCache;
+
+    @GetMapping("/ai-report-cache")
+    public ResponseEntity<?> getAiReportCacheStats() {
+        return ResponseEntity.ok(aiReportCache.stats());
+    }
     @PostMapping("/placement-funnel")
-    public ResponseEntity<?> getPlacementFunnel(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getPlacementFunnel(@RequestBody Map<String, Object> payload) {
         
-        return ResponseEntity.ok(adminService.fetchPlacementFunnel(payload));
+        return aiGatewayService.placementFunnel(payload);
     }
     @PostMapping("/market-demand")
-    public ResponseEntity<?> getMarketDemand(@RequestBody Map<String, Object> payload){
-    	return ResponseEntity.ok(adminService.fetchMarketDemand(payload));
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getMarketDemand(@RequestBody Map<String, Object> payload){
+    	return aiGatewayService.marketDemand(payload);
     }
 }
\ No newline at end of file
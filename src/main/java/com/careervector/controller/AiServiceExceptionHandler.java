@@ -0,0 +1,19 @@
+package com.careervector.controller;
+
+import com.careervector.service.AiServiceUnavailableException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// A FastAPI path whose circuit is open or whose bulkhead is full answers 503 right away
+@RestControllerAdvice
+public class AiServiceExceptionHandler {
+
+    @ExceptionHandler(AiServiceUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleAiServiceUnavailable(AiServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+    }
+}
@@ -5,7 +5,10 @@ import com.careervector.dto.JobRequest;
 import com.careervector.dto.fastapi;
 import com.careervector.model.Job;
 import com.careervector.model.JobApplication;
+import com.careervector.service.AiGatewayService;
+import com.careervector.service.AiServiceUnavailableException;
 import com.careervector.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -13,10 +16,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -26,6 +33,9 @@ public class JobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private AiGatewayService aiGatewayService;
+
     // --- JOB MANAGEMENT ---
 
     @PostMapping("/post-job")
@@ -58,6 +68,21 @@ public class JobController {
         return ResponseEntity.ok(jobService.getJobs());
     }
 
+    // Cursor-paginated active jobs (card columns only); filters are optional
+    @GetMapping("/feed")
+    public ResponseEntity<?> getJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company) {
+        try {
+            return ResponseEntity.ok(jobService.getJobFeed(cursor, limit, jobType, location, company));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/my-jobs")
     public ResponseEntity<List<Job>> getRecruiterJobs(@RequestParam String email) {
         return ResponseEntity.ok(jobService.getJobsByRecruiterEmail(email));
@@ -109,6 +134,12 @@ public class JobController {
                 "message", "AI processing complete. Candidates have been ranked and updated."
         ));
     }
+    // Same as auto-shortlist, streamed as SSE: a "batch" event (ShortlistBatch) per ranked chunk, then "done"
+    @PostMapping(value = "/{jobId}/auto-shortlist/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAiShortlisting(@PathVariable Long jobId, @RequestParam String email) {
+        return aiGatewayService.stream(events ->
+                jobService.streamAutoShortlistCandidates(jobId, email, batch -> events.send("batch", batch)));
+    }
     @PostMapping("/{jobId}/bulk-notify")
     public ResponseEntity<Map<String, String>> sendBulkEmails(
             @PathVariable Long jobId,
@@ -130,57 +161,60 @@ public class JobController {
         return ResponseEntity.ok(results);
     }
 
+    // Streamed shortlist: a "batch" event (ShortlistBatch) per ranked chunk, then "done"
+    @PostMapping(value = "/{jobId}/shortlist/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamShortlistForJob(@PathVariable Long jobId, @RequestParam String email) {
+        return aiGatewayService.stream(events ->
+                jobService.streamShortlistForJobProcess(jobId, email, batch -> events.send("batch", batch)));
+    }
+
     @PostMapping("/{jobId}/notify-reviewed")
     public ResponseEntity<?> notifyReviewed(@PathVariable Long jobId, @RequestParam String email) {
         jobService.notifyReviewedCandidates(jobId, email);
         return ResponseEntity.ok("Review notifications sent.");
     }
+    // --- AI proxies: return futures so no Tomcat thread waits on FastAPI ---
     @PostMapping("/skill-gap-report")
-    public ResponseEntity<fastapi.SkillGapReportResponse> getSkillGapReport(
+    public CompletableFuture<ResponseEntity<fastapi.SkillGapReportResponse>> getSkillGapReport(
             @RequestBody fastapi.SkillGapReportRequest request) {
-        return ResponseEntity.ok(jobService.getSkillGapReport(request));
+        return aiGatewayService.skillGapReport(request).thenApply(ResponseEntity::ok);
     }
 
 
     @PostMapping("/learning-path") // This combines with @RequestMapping("/api/jobs")
-    public ResponseEntity<fastapi.LearningPathResponse> getLearningPath(
+    public CompletableFuture<ResponseEntity<fastapi.LearningPathResponse>> getLearningPath(
             @RequestBody fastapi.LearningPathRequest request) {
 
-        return ResponseEntity.ok(jobService.generateLearningPath(request));
+        return aiGatewayService.learningPath(request).thenApply(ResponseEntity::ok);
     }
     
     @PostMapping("/job-readiness")
-    public ResponseEntity<?> getJobReadiness(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getJobReadiness(@RequestBody Map<String, Object> payload) {
         // This receives: resume_url, job_description, github_url, leetcode_username
-        try {
-            Object result = jobService.fetchJobReadiness(payload);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                 .body(Map.of("error", e.getMessage()));
-        }
+        return aiGatewayService.jobReadiness(payload).exceptionally(this::aiError);
     }
     @PostMapping("/failure-diagnosis")
-    public ResponseEntity<?> getFailureDiagnosis(@RequestBody Map<String, Object> payload) {
-        try {
-            // payload contains resume_url, job_description, github_url, leetcode_username
-            Object result = jobService.fetchFailureDiagnosis(payload);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                 .body(Map.of("error", e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getFailureDiagnosis(@RequestBody Map<String, Object> payload) {
+        // payload contains resume_url, job_description, github_url, leetcode_username
+        return aiGatewayService.failureDiagnosis(payload).exceptionally(this::aiError);
     }
     @PostMapping("/ats-score")
-    public ResponseEntity<?> getAtsScore(@RequestBody Map<String, Object> payload) {
-        try {
-            // payload receives: resume_url, job_description
-            Object result = jobService.fetchAtsScore(payload);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                 .body(Map.of("error", e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getAtsScore(@RequestBody Map<String, Object> payload) {
+        // payload receives: resume_url, job_description
+        return aiGatewayService.atsScore(payload).exceptionally(this::aiError);
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 500 with the error message; an unavailable AI path is left to AiServiceExceptionHandler (503)
+    private ResponseEntity<StreamingResponseBody> aiError(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof AiServiceUnavailableException unavailable) throw unavailable;
+        Map<String, String> error = Map.of("error", String.valueOf(cause.getMessage()));
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(out -> objectMapper.writeValue(out, error));
     }
     @GetMapping("get-all-jobs")
     public ResponseEntity<?> getAllJobs(){
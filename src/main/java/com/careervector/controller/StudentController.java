@@ -8,13 +8,15 @@ import com.careervector.model.JobApplication;
 import com.careervector.model.MockInterview;
 import com.careervector.model.Student;
 import com.careervector.repo.MockInterviewRepo;
+import com.careervector.service.AiGatewayService;
+import com.careervector.service.AiServiceUnavailableException;
 import com.careervector.service.InterviewService;
 import com.careervector.service.JobService;
+import com.careervector.service.MatchingService;
 import com.careervector.service.StudentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -22,11 +24,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/student")
@@ -171,12 +174,29 @@ public class StudentController {
     }
 
     // --- 6. GET SCORED JOBS (NEW ENDPOINT) ---
+    // Reads the materialized student_job_scores table; never waits on FastAPI
     @GetMapping("/{rollNumber}/get-scored-jobs")
     public ResponseEntity<List<Map<String, Object>>> getScoredJobs(@PathVariable String rollNumber) {
+        return ResponseEntity.ok(jobService.getJobsWithStoredScores(rollNumber));
+    }
+
+    // Scores inside the request (cached, only new/edited jobs go to FastAPI)
+    @GetMapping("/{rollNumber}/get-scored-jobs/live")
+    public ResponseEntity<List<Map<String, Object>>> getLiveScoredJobs(@PathVariable String rollNumber) {
         // Calls the service method that handles null scores if skills are missing
         return ResponseEntity.ok(jobService.getJobsWithAiScoring(rollNumber));
     }
 
+    // Cheap local ranking (keyword or BM25) without the FastAPI round trip
+    @GetMapping("/{rollNumber}/get-local-scored-jobs")
+    public ResponseEntity<List<Map<String, Object>>> getLocalScoredJobs(
+            @PathVariable String rollNumber,
+            @RequestParam(value = "mode", required = false) MatchingService.Mode mode) {
+        return ResponseEntity.ok(mode != null
+                ? jobService.getJobsWithScores(rollNumber, mode)
+                : jobService.getJobsWithScores(rollNumber));
+    }
+
     @PatchMapping("/profile")
     public ResponseEntity<?> updateProfile(@RequestBody StudentUpdateDto studentUpdateDto){
         try{
@@ -277,13 +297,11 @@ public class StudentController {
     public ResponseEntity<List<InterviewResponseDTO>> getMyInterviews(@RequestParam String email) {
         return ResponseEntity.ok(interviewService.getInterviewsForStudent(email));
     }
-    @Value("${fastapi.url}")
-    private String fastApiUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Interview simulation: the FastAPI call runs on the AI gateway, not on the request thread
+    @Autowired private AiGatewayService aiGatewayService;
 
     @PostMapping("/simulation/generate-questions")
-    public ResponseEntity<?> generateSimulationQuestions(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<?>> generateSimulationQuestions(@RequestBody Map<String, Object> payload) {
         try {
             String email = (String) payload.get("email");
             Integer nQuestions = (Integer) payload.get("n_questions");
@@ -291,7 +309,7 @@ public class StudentController {
 
             // Fetch student details from DB to get the latest Resume/GitHub URLs
             Student student = studentService.findStudent(email);
-            if (student == null) return ResponseEntity.badRequest().body("Student not found");
+            if (student == null) return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Student not found"));
 
             // Prepare payload for FastAPI
             Map<String, Object> aiPayload = Map.of(
@@ -301,23 +319,27 @@ public class StudentController {
                 "n_questions", nQuestions != null ? nQuestions : 4
             );
 
-            return restTemplate.postForEntity(fastApiUrl + "/generate-interview-questions", aiPayload, Object.class);
+            return aiGatewayService.simulation("/generate-interview-questions", aiPayload)
+                    .<ResponseEntity<?>>thenApply(response -> response)
+                    .exceptionally(e -> simulationError("AI Generation Error: ", e));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("AI Generation Error: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body("AI Generation Error: " + e.getMessage()));
         }
     }
 
     @PostMapping("/simulation/evaluate")
-    public ResponseEntity<?> evaluateSimulation(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<?>> evaluateSimulation(@RequestBody Map<String, Object> payload) {
         try {
             // payload should contain "answers" list as per FastAPI spec
-            return restTemplate.postForEntity(fastApiUrl + "/evaluate-interview", payload, Object.class);
+            return aiGatewayService.simulation("/evaluate-interview", payload)
+                    .<ResponseEntity<?>>thenApply(response -> response)
+                    .exceptionally(e -> simulationError("AI Evaluation Error: ", e));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("AI Evaluation Error: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body("AI Evaluation Error: " + e.getMessage()));
         }
     }
     @PostMapping("/simulation/start-adaptive")
-    public ResponseEntity<?> startAdaptive(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<?>> startAdaptive(@RequestBody Map<String, Object> payload) {
         try {
             Student student = studentService.findStudent((String) payload.get("email"));
             Map<String, Object> aiPayload = Map.of(
@@ -327,21 +349,32 @@ public class StudentController {
                 "github_url", student.getGithubUrl(),
                 "n_questions", payload.get("n_questions")
             );
-            return restTemplate.postForEntity(fastApiUrl + "/start-adaptive-interview", aiPayload, Object.class);
+            return aiGatewayService.simulation("/start-adaptive-interview", aiPayload)
+                    .<ResponseEntity<?>>thenApply(response -> response)
+                    .exceptionally(e -> simulationError("Error starting adaptive: ", e));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("Error starting adaptive: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body("Error starting adaptive: " + e.getMessage()));
         }
     }
 
     @PostMapping("/simulation/adaptive-answer")
-    public ResponseEntity<?> adaptiveAnswer(@RequestBody Map<String, Object> payload) {
+    public CompletableFuture<ResponseEntity<?>> adaptiveAnswer(@RequestBody Map<String, Object> payload) {
         try {
             // payload contains candidate_id and answer
-            return restTemplate.postForEntity(fastApiUrl + "/adaptive-interview-answer", payload, Object.class);
+            return aiGatewayService.simulation("/adaptive-interview-answer", payload)
+                    .<ResponseEntity<?>>thenApply(response -> response)
+                    .exceptionally(e -> simulationError("Evaluation error: ", e));
         } catch (Exception e) {
-            return ResponseEntity.status(500).body("Evaluation error: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(500).body("Evaluation error: " + e.getMessage()));
         }
     }
+
+    // 500 with the error text, as before; an unavailable AI path is left to AiServiceExceptionHandler (503)
+    private static ResponseEntity<?> simulationError(String prefix, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof AiServiceUnavailableException unavailable) throw unavailable;
+        return ResponseEntity.status(500).body(prefix + cause.getMessage());
+    }
     
     @Autowired
     private MockInterviewRepo mockInterviewRepo;
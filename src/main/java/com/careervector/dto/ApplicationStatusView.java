@@ -0,0 +1,4 @@
+package com.careervector.dto;
+
+// Slim view of a student's application for the job feed: no student, job or interview rows loaded
+public record ApplicationStatusView(Long jobId, String status, boolean mailSent) {}
@@ -0,0 +1,15 @@
+package com.careervector.dto;
+
+import java.time.LocalDateTime;
+
+// Columns a job card shows; selected directly so the feed never loads descriptions or recruiter entities
+public record JobCardView(
+        Long id,
+        String jobTitle,
+        String jobType,
+        String location,
+        String salaryRange,
+        int numberOfPostings,
+        LocalDateTime postedAt,
+        String companyName
+) {}
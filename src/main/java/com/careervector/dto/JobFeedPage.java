@@ -0,0 +1,6 @@
+package com.careervector.dto;
+
+import java.util.List;
+
+// One page of the job feed; pass nextCursor back as ?cursor= for the next page (null on the last page)
+public record JobFeedPage(List<JobCardView> items, String nextCursor) {}
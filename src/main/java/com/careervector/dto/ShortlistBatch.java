@@ -0,0 +1,7 @@
+package com.careervector.dto;
+
+import java.util.List;
+
+// One streamed batch of shortlist results. Ranks continue from the previous batch, in the order sent; chunks
+// are ranked separately, so merge batches by final_score. ranked and total count candidates across the whole job.
+public record ShortlistBatch(List<fastapi.RankingResponse> results, int ranked, int total) {}
@@ -20,7 +20,8 @@ public class fastapi {
             String student_id,  // Maps to "candidate_id" in JSON
             int rank,             // Maps to "rank"
             double final_score,   // Maps to "final_score"
-            String status         // Maps to "status" ("shortlist", "review", or "reject")
+            String status,        // Maps to "status" ("shortlist", "review", or "reject")
+            Double local_score    // Keyword score (0-100) of a candidate held back from the AI ranker; null when AI-ranked
     ) {}
 
     // DTO for matching student with jd's
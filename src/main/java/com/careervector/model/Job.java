@@ -1,5 +1,6 @@
 package com.careervector.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -10,7 +11,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+// Serves the keyset-paginated feed: active jobs walked in (posted_at, id) order
+@Table(name = "jobs", indexes = @Index(name = "idx_jobs_feed", columnList = "is_active, posted_at DESC, id DESC"))
 @Builder
 public class Job {
 
@@ -21,7 +23,7 @@ public class Job {
     }
 
     // 2. All-Args Constructor (REQUIRED for Lombok @Builder to include the new variable)
-    public Job(Long id, String jobTitle, String jobType, String location, String salaryRange, String description, boolean isActive, Recruiter recruiter, LocalDateTime postedAt, LocalDateTime updatedAt, int numberOfPostings) {
+    public Job(Long id, String jobTitle, String jobType, String location, String salaryRange, String description, boolean isActive, Recruiter recruiter, LocalDateTime postedAt, LocalDateTime updatedAt, int numberOfPostings, String minHashSignature) {
         this.id = id;
         this.jobTitle = jobTitle;
         this.jobType = jobType;
@@ -33,6 +35,7 @@ public class Job {
         this.postedAt = postedAt;
         this.updatedAt = updatedAt;
         this.numberOfPostings = numberOfPostings; // Logic added here
+        this.minHashSignature = minHashSignature;
     }
 
     @Getter
@@ -87,6 +90,13 @@ public class Job {
     @Setter
     private int numberOfPostings = 1;
 
+    // MinHash signature of the description (Base64, see MinHash) for near-duplicate detection
+    @JsonIgnore
+    @Getter
+    @Setter
+    @Column(columnDefinition = "TEXT")
+    private String minHashSignature;
+
     public void setId(Long id) { this.id = id; }
     public String getJobType() { return jobType; }
     public String getLocation() { return location; }
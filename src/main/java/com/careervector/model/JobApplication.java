@@ -35,6 +35,7 @@ public class JobApplication {
     private boolean isMailSent = false;
     // Add to JobApplication.java
     private Double matchScore; // Stores the final_score from AI
+    private Double preRankScore; // Local keyword score of applicants held back from the AI ranker
  // Add this inside com.careervector.model.JobApplication.java
  // Inside com.careervector.model.JobApplication.java
 
@@ -0,0 +1,43 @@
+package com.careervector.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Materialized AI match result of one student against one job, refreshed in the background
+@Entity
+@Table(name = "student_job_scores",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"student_roll_number", "job_id"}))
+@Getter @Setter @NoArgsConstructor
+public class StudentJobScore {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain columns, no joins: the scored-jobs page reads this table on its own.
+    // The unique (student_roll_number, job_id) index also serves the per-student read.
+    @Column(name = "student_roll_number", nullable = false)
+    private String studentRollNumber;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Job.updatedAt and profile hash the score was computed for; a mismatch means it is stale
+    private LocalDateTime jobUpdatedAt;
+    private String profileHash;
+
+    @Column(name = "score_rank")
+    private int rank;
+    private double finalScore;
+    private String status;
+    @Column(columnDefinition = "TEXT")
+    private String reason;
+    private String roleLevel;
+    private double jobReadinessScore;
+    private String readinessLevel;
+
+    @UpdateTimestamp
+    private LocalDateTime scoredAt;
+}
@@ -1,10 +1,12 @@
 package com.careervector.repo;
 
+import com.careervector.dto.ApplicationStatusView;
 import com.careervector.model.JobApplication;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +15,21 @@ public interface JobApplicationRepo extends JpaRepository<JobApplication, Long>
     // For Recruiter: See all students who applied for a specific job
     List<JobApplication> findByJobId(Long jobId);
 
+    // Same, with each applicant's student and interview in the one query; for ranking a whole job's pool
+    @Query("SELECT a FROM JobApplication a JOIN FETCH a.student LEFT JOIN FETCH a.interview WHERE a.job.id = :jobId")
+    List<JobApplication> findByJobIdWithStudent(@Param("jobId") Long jobId);
+
+    // Given applications with student and interview, in one query; for applying one streamed ranking chunk
+    @Query("SELECT a FROM JobApplication a JOIN FETCH a.student LEFT JOIN FETCH a.interview WHERE a.id IN :ids")
+    List<JobApplication> findByIdInWithStudent(@Param("ids") Collection<Long> ids);
+
     // For Student: See all jobs they have applied to
     List<JobApplication> findByStudentRollNumber(String rollNumber);
 
+    // Same, as (jobId, status, mailSent) only; one query for the whole job feed
+    @Query("SELECT new com.careervector.dto.ApplicationStatusView(a.job.id, a.status, a.isMailSent) FROM JobApplication a WHERE a.student.rollNumber = :rollNumber")
+    List<ApplicationStatusView> findStatusViewsByStudentRollNumber(@Param("rollNumber") String rollNumber);
+
     // Prevent duplicate applications
     boolean existsByJobIdAndStudentRollNumber(Long jobId, String rollNumber);
     Optional<JobApplication> findByJobIdAndStudentRollNumber(Long jobId, String rollNumber);
@@ -1,8 +1,16 @@
 package com.careervector.repo;
 
+import com.careervector.dto.JobCardView;
 import com.careervector.model.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,5 +19,29 @@ public interface JobRepo extends JpaRepository<Job, Long> {
     // Find all jobs created by a specific recruiter's email
     // This JOINs the tables automatically
     List<Job> findByRecruiterEmail(String email);
+    // Recruiter is EAGER; fetch it in the same query instead of one select per recruiter
+    @EntityGraph(attributePaths = "recruiter")
     List<Job> findByIsActive(boolean isActive);
-}
\ No newline at end of file
+
+    // Bulk update so backfilling a signature does not bump updatedAt
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.minHashSignature = :signature WHERE j.id = :id")
+    void updateMinHashSignature(@Param("id") Long id, @Param("signature") String signature);
+
+    // Keyset page of active jobs, newest first. A null cursor starts at the top; null filters are ignored.
+    @Query("SELECT new com.careervector.dto.JobCardView(j.id, j.jobTitle, j.jobType, j.location, j.salaryRange, j.numberOfPostings, j.postedAt, r.companyName) " +
+            "FROM Job j JOIN j.recruiter r " +
+            "WHERE j.isActive = true " +
+            "AND (:cursorId IS NULL OR j.postedAt < :cursorPostedAt OR (j.postedAt = :cursorPostedAt AND j.id < :cursorId)) " +
+            "AND (:jobType IS NULL OR j.jobType = :jobType) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE :location) " +
+            "AND (:company IS NULL OR LOWER(r.companyName) = :company) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    List<JobCardView> findActiveJobCards(@Param("cursorPostedAt") LocalDateTime cursorPostedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("jobType") String jobType,
+                                         @Param("location") String location,
+                                         @Param("company") String company,
+                                         Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.careervector.repo;
+
+import com.careervector.model.StudentJobScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StudentJobScoreRepo extends JpaRepository<StudentJobScore, Long> {
+
+    List<StudentJobScore> findByStudentRollNumber(String rollNumber);
+
+    @Modifying
+    @Query("DELETE FROM StudentJobScore s WHERE s.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -5,6 +5,7 @@ import com.careervector.model.Student;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 
@@ -16,4 +17,8 @@ public interface StudentRepo extends JpaRepository<Student, String> {
     Student findByUserName(String userName);
 
     List<Student> findByClgName(String clgName);
+
+    // Students FastAPI can score (it needs a resume), for background score refreshes
+    @Query("SELECT s.rollNumber FROM Student s WHERE s.resumeUrl IS NOT NULL AND s.resumeUrl <> ''")
+    List<String> findRollNumbersWithResume();
 }
\ No newline at end of file
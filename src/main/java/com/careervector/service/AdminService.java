@@ -10,17 +10,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 public class AdminService {
@@ -79,22 +73,15 @@ public class AdminService {
     public List<Student> getStudents(String college_name) {
     	return studentService.getStudentsWithCollegeName(college_name);
     }
-    @Autowired 
-    @Qualifier("fastApiRestTemplate") 
-    private RestTemplate fastApiRestTemplate;
-
-    @Value("${fastapi.url}")
-    private String fastApiUrl;
-
-    // --- Helper Method for GET Requests ---
-    private Object executeGetRequest(String path, String paramName, String paramValue) {
-        String url = UriComponentsBuilder.fromHttpUrl(fastApiUrl + path)
-                .queryParam(paramName, paramValue)
-                .build()
-                .toUriString();
+    @Autowired
+    private FastApiClient fastApiClient;
+
+    // --- Helper Method for GET Requests (FastAPI's response is streamed to the client untouched) ---
+    private ResponseEntity<StreamingResponseBody> executeGetRequest(String path, String paramName, String paramValue) {
         try {
-            Object response = fastApiRestTemplate.getForObject(url, Object.class);
-            return response;
+            return fastApiClient.proxyGet(path, Map.of(paramName, paramValue));
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("DEBUG: Error -> " + e.getMessage());
             throw new RuntimeException("FastAPI Error: " + e.getMessage());
@@ -103,41 +90,39 @@ public class AdminService {
 
     
 
-    public Object fetchTopStudents(String collegeName) {
+    public ResponseEntity<StreamingResponseBody> fetchTopStudents(String collegeName) {
         return executeGetRequest("/admin/top-students", "college_name", collegeName);
     }
 
-    public Object fetchAtRiskStudents(String collegeName) {
+    public ResponseEntity<StreamingResponseBody> fetchAtRiskStudents(String collegeName) {
         return executeGetRequest("/admin/at-risk-students", "college_name", collegeName);
     }
 
-    public Object fetchSkillGapTrends(String collegeName) {
+    public ResponseEntity<StreamingResponseBody> fetchSkillGapTrends(String collegeName) {
         return executeGetRequest("/admin/skill-gap-trends", "college_name", collegeName);
     }
 
-    public Object fetchStudentProgression(String studentId) {
+    public ResponseEntity<StreamingResponseBody> fetchStudentProgression(String studentId) {
         return executeGetRequest("/admin/student-progression", "student_id", studentId);
     }
 
  // --- New Helper Method for POST Requests ---
-    private Object executePostRequest(String path, Map<String, Object> payload) {
-        String url = fastApiUrl + path;
+    private ResponseEntity<StreamingResponseBody> executePostRequest(String path, Map<String, Object> payload) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(payload, headers);
-            return fastApiRestTemplate.postForObject(url, requestEntity, Object.class);
+            return fastApiClient.proxyPost(path, payload);
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Service POST Error [" + path + "]: " + e.getMessage());
         }
     }
 
     // Updated Methods using the helper
-    public Object fetchPlacementFunnel(Map<String, Object> payload) {
+    public ResponseEntity<StreamingResponseBody> fetchPlacementFunnel(Map<String, Object> payload) {
         return executePostRequest("/admin/placement-funnel", payload);
     }
 
-    public Object fetchMarketDemand(Map<String, Object> payload) {
+    public ResponseEntity<StreamingResponseBody> fetchMarketDemand(Map<String, Object> payload) {
         return executePostRequest("/market-demand", payload);
     }
     
@@ -0,0 +1,138 @@
+package com.careervector.service;
+
+import com.careervector.dto.fastapi;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Async front for the AI proxy endpoints. Each method hands the (blocking) FastAPI call to the
+ * aiGatewayExecutor and returns at once; controllers return the future, so Spring MVC completes the
+ * response when FastAPI answers instead of parking a Tomcat thread for the whole call.
+ * Failures, including {@link AiServiceUnavailableException}, complete the future exceptionally.
+ */
+@Service
+public class AiGatewayService {
+
+    @Autowired private JobService jobService;
+    @Autowired private AdminService adminService;
+    @Autowired private FastApiResilience fastApiResilience;
+    @Autowired @Qualifier("fastApiRestTemplate") private RestTemplate fastApiRestTemplate;
+    @Autowired @Qualifier("aiGatewayExecutor") private AsyncTaskExecutor executor;
+
+    @Value("${fastapi.url}")
+    private String fastApiUrl;
+
+    @Value("${ai.gateway.stream-timeout-ms:600000}")
+    private long streamTimeoutMs;
+
+    // --- Student reports ---
+    public CompletableFuture<fastapi.SkillGapReportResponse> skillGapReport(fastapi.SkillGapReportRequest request) {
+        return supply(() -> jobService.getSkillGapReport(request));
+    }
+
+    public CompletableFuture<fastapi.LearningPathResponse> learningPath(fastapi.LearningPathRequest request) {
+        return supply(() -> jobService.generateLearningPath(request));
+    }
+
+    // Readiness, diagnosis and ATS answers are passed through untouched (status, content type, bytes)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> jobReadiness(Map<String, Object> payload) {
+        return supply(() -> jobService.fetchJobReadiness(payload));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> failureDiagnosis(Map<String, Object> payload) {
+        return supply(() -> jobService.fetchFailureDiagnosis(payload));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> atsScore(Map<String, Object> payload) {
+        return supply(() -> jobService.fetchAtsScore(payload));
+    }
+
+    // --- Interview simulation: stateful on the FastAPI side, so never coalesced; FastAPI's response is passed on as is ---
+    public CompletableFuture<ResponseEntity<Object>> simulation(String path, Map<String, Object> payload) {
+        return supply(() -> fastApiResilience.call(path,
+                () -> fastApiRestTemplate.postForEntity(fastApiUrl + path, payload, Object.class)));
+    }
+
+    // --- Admin analytics: like the reports above, passed through from FastAPI as raw bytes ---
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> topStudents(String collegeName) {
+        return supply(() -> adminService.fetchTopStudents(collegeName));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> atRiskStudents(String collegeName) {
+        return supply(() -> adminService.fetchAtRiskStudents(collegeName));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> skillGapTrends(String collegeName) {
+        return supply(() -> adminService.fetchSkillGapTrends(collegeName));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> studentProgression(String studentId) {
+        return supply(() -> adminService.fetchStudentProgression(studentId));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> placementFunnel(Map<String, Object> payload) {
+        return supply(() -> adminService.fetchPlacementFunnel(payload));
+    }
+
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> marketDemand(Map<String, Object> payload) {
+        return supply(() -> adminService.fetchMarketDemand(payload));
+    }
+
+    // --- Server-Sent Events ---
+    public interface EventSink {
+        void send(String event, Object data);
+    }
+
+    /**
+     * Runs {@code work} on the gateway executor and streams what it sends as SSE events, followed by "done",
+     * or by "error" with the message if it fails. When the client disconnects, the next send throws, which
+     * stops the work.
+     */
+    public SseEmitter stream(Consumer<EventSink> work) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        EventSink sink = (event, data) -> {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        executor.execute(() -> {
+            try {
+                work.accept(sink);
+                sink.send("done", Map.of());
+                emitter.complete();
+            } catch (UncheckedIOException e) {
+                emitter.completeWithError(e);
+            } catch (RuntimeException e) {
+                try {
+                    int status = e instanceof AiServiceUnavailableException ? 503 : 500;
+                    sink.send("error", Map.of("status", status, "error", String.valueOf(e.getMessage())));
+                    emitter.complete();
+                } catch (UncheckedIOException io) {
+                    emitter.completeWithError(io);
+                }
+            }
+        });
+        return emitter;
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+}
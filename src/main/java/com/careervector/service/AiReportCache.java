@@ -0,0 +1,251 @@
+package com.careervector.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the resume-driven AI reports (skill gap, learning path, job readiness, failure diagnosis, ATS score).
+ * These are deterministic for a given request, so the key is the endpoint plus a SHA-256 of the request as
+ * canonical JSON (see {@link FastApiClient#canonicalSha256}); resume URLs carry an upload timestamp, so a new
+ * resume is a new key. The GitHub/LeetCode activity behind a report does drift, which the per-endpoint TTL
+ * ({@code ai.report-cache.<endpoint>.ttl-minutes}, 0 disables) bounds. Entries are the response bytes and
+ * content type: a byte-bounded Caffeine L1 in front of Redis. Redis errors count as misses.
+ * Only 2xx responses are stored.
+ */
+@Component
+public class AiReportCache {
+
+    private static final String PREFIX = "ai-report:";
+
+    // Short command timeout, see RedisConfig#cacheRedisTemplate
+    @Autowired @Qualifier("cacheRedisTemplate") private StringRedisTemplate redisTemplate;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private FastApiClient fastApiClient;
+    @Autowired private Environment env;
+
+    private record Entry(String contentType, byte[] body, Duration ttl) {}
+
+    private final int maxEntryBytes;
+    private final Cache<String, Entry> local;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public AiReportCache(@Value("${ai.report-cache.local-max-bytes:67108864}") long localMaxBytes,
+                         @Value("${ai.report-cache.max-entry-bytes:1048576}") int maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(localMaxBytes)
+                .weigher((String key, Entry entry) -> key.length() + entry.contentType().length() + entry.body().length)
+                .expireAfter(new Expiry<String, Entry>() {
+                    public long expireAfterCreate(String key, Entry entry, long now) {
+                        return entry.ttl().toNanos();
+                    }
+                    public long expireAfterUpdate(String key, Entry entry, long now, long current) {
+                        return entry.ttl().toNanos();
+                    }
+                    public long expireAfterRead(String key, Entry entry, long now, long current) {
+                        return current;
+                    }
+                })
+                .build();
+    }
+
+    /** Typed report: served from cache when present, otherwise loaded and stored as JSON. */
+    public <T> T getOrLoad(String endpoint, Object request, Class<T> responseType, Supplier<T> loader) {
+        String key = key(endpoint, request);
+        if (key == null) return loader.get();
+
+        Entry cached = lookup(key);
+        if (cached != null) {
+            try {
+                return objectMapper.readValue(cached.body(), responseType);
+            } catch (IOException e) {
+                System.err.println("Skipping unreadable AI report cache entry " + key + ": " + e.getMessage());
+            }
+        }
+
+        T result = loader.get();
+        if (result != null) {
+            try {
+                store(key, new Entry(MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(result), ttl(endpoint)));
+            } catch (IOException e) {
+                System.err.println("Could not serialize AI report for " + endpoint + ": " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Pass-through report: a hit is written straight from the cached bytes; on a miss the loader's 2xx body is
+     * copied aside while it streams to the client and stored once it has been sent in full.
+     */
+    public ResponseEntity<StreamingResponseBody> getOrProxy(String endpoint, Object request,
+                                                            Supplier<ResponseEntity<StreamingResponseBody>> loader) {
+        String key = key(endpoint, request);
+        if (key == null) return loader.get();
+
+        Entry cached = lookup(key);
+        if (cached != null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(cached.contentType()))
+                    .contentLength(cached.body().length)
+                    .body(out -> out.write(cached.body()));
+        }
+
+        ResponseEntity<StreamingResponseBody> response = loader.get();
+        StreamingResponseBody upstream = response.getBody();
+        Duration ttl = ttl(endpoint);
+        if (!response.getStatusCode().is2xxSuccessful() || upstream == null) return response;
+
+        MediaType contentType = response.getHeaders().getContentType();
+        String type = contentType == null ? MediaType.APPLICATION_JSON_VALUE : contentType.toString();
+        return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()).body(out -> {
+            CopyingOutputStream copy = new CopyingOutputStream(out, maxEntryBytes);
+            upstream.writeTo(copy);
+            // Reached only when the whole body was sent; a failed or oversized response is not kept
+            if (!copy.overflowed) store(key, new Entry(type, copy.copy.toByteArray(), ttl));
+        });
+    }
+
+    public Map<String, Long> stats() {
+        long bytes = local.asMap().entrySet().stream()
+                .mapToLong(e -> e.getKey().length() + e.getValue().contentType().length() + e.getValue().body().length)
+                .sum();
+        return Map.of("hits", hits.get(), "misses", misses.get(),
+                "localEntries", local.estimatedSize(), "localBytes", bytes);
+    }
+
+    private Entry lookup(String key) {
+        Entry cached = local.getIfPresent(key);
+        if (cached == null) cached = remoteGet(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    private void store(String key, Entry entry) {
+        if (entry.ttl().isZero() || entry.body().length > maxEntryBytes) return;
+        local.put(key, entry);
+        byte[] type = entry.contentType().getBytes(StandardCharsets.UTF_8);
+        byte[] value = new byte[type.length + 1 + entry.body().length];
+        System.arraycopy(type, 0, value, 0, type.length);
+        value[type.length] = '\n';
+        System.arraycopy(entry.body(), 0, value, type.length + 1, entry.body().length);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8), value,
+                    Expiration.from(entry.ttl()), RedisStringCommands.SetOption.upsert()));
+        } catch (RuntimeException e) {
+            System.err.println("AI report cache write failed: " + e.getMessage());
+        }
+    }
+
+    // Redis value is "{content type}\n{body}"; the remaining TTL comes back in the same round trip so the
+    // L1 copy expires with it
+    private Entry remoteGet(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+                return null;
+            }, RedisSerializer.byteArray());
+        } catch (RuntimeException e) {
+            System.err.println("AI report cache read failed, treating as miss: " + e.getMessage());
+            return null;
+        }
+        if (results.size() < 2 || !(results.get(0) instanceof byte[] value) || !(results.get(1) instanceof Long ttlMs)) {
+            return null;
+        }
+
+        int separator = -1;
+        for (int i = 0; i < value.length; i++) {
+            if (value[i] == '\n') {
+                separator = i;
+                break;
+            }
+        }
+        if (separator < 0 || ttlMs <= 0) return null;
+        Entry entry = new Entry(new String(value, 0, separator, StandardCharsets.UTF_8),
+                Arrays.copyOfRange(value, separator + 1, value.length), Duration.ofMillis(ttlMs));
+        local.put(key, entry);
+        return entry;
+    }
+
+    // ai-report:{endpoint}:{sha256 of the canonical request}; null when the request cannot be hashed
+    private String key(String endpoint, Object request) {
+        if (ttl(endpoint).isZero()) return null;
+        String hash = fastApiClient.canonicalSha256(request);
+        return hash == null ? null : PREFIX + endpoint + ":" + hash;
+    }
+
+    private Duration ttl(String endpoint) {
+        Long global = env.getProperty("ai.report-cache.ttl-minutes", Long.class, 60L);
+        return Duration.ofMinutes(env.getProperty("ai.report-cache." + endpoint + ".ttl-minutes", Long.class, global));
+    }
+
+    // Forwards everything to the client and keeps a copy of up to maxBytes
+    private static final class CopyingOutputStream extends FilterOutputStream {
+        private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private final int maxBytes;
+        private boolean overflowed;
+
+        CopyingOutputStream(OutputStream out, int maxBytes) {
+            super(out);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            keep(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            keep(b, off, len);
+        }
+
+        private void keep(byte[] b, int off, int len) {
+            if (overflowed) return;
+            if (copy.size() + len > maxBytes) {
+                overflowed = true;
+                copy.reset();
+                return;
+            }
+            copy.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.careervector.service;
+
+import com.careervector.dto.fastapi;
+import com.careervector.model.Job;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Cache of FastAPI /match-student-jds results per (student profile, job version): a local Caffeine L1 in
+ * front of Redis. The key holds a hash of the profile fields sent to FastAPI and the job's updatedAt, so a
+ * new resume/GitHub URL or an edited job simply stops matching its old entries; those age out by TTL.
+ * Redis errors count as misses, so scoring keeps working (uncached) when Redis is down.
+ */
+@Component
+public class AiScoreCache {
+
+    private static final String PREFIX = "ai-score:";
+
+    // Short command timeout, see RedisConfig#cacheRedisTemplate
+    @Autowired @Qualifier("cacheRedisTemplate") private StringRedisTemplate redisTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    private final Duration ttl;
+    private final Cache<String, fastapi.StudentMatchResponse> local;
+
+    public AiScoreCache(@Value("${ai.score-cache.ttl-hours:24}") long ttlHours,
+                        @Value("${ai.score-cache.local-max-entries:50000}") long localMaxEntries) {
+        this.ttl = Duration.ofHours(ttlHours);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** Cached results for the given jobs, keyed by job id; jobs without a fresh entry are absent. */
+    public Map<Long, fastapi.StudentMatchResponse> getAll(fastapi.StudentProfile profile, List<Job> jobs) {
+        String profileKey = profileKey(profile);
+        Map<Long, fastapi.StudentMatchResponse> hits = new HashMap<>();
+        List<Job> remoteLookups = new ArrayList<>();
+        List<String> remoteKeys = new ArrayList<>();
+
+        for (Job job : jobs) {
+            String key = key(profileKey, job);
+            fastapi.StudentMatchResponse cached = local.getIfPresent(key);
+            if (cached != null) {
+                hits.put(job.getId(), cached);
+            } else {
+                remoteLookups.add(job);
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) return hits;
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(remoteKeys);
+        } catch (RuntimeException e) {
+            System.err.println("AI score cache read failed, treating as miss: " + e.getMessage());
+            return hits;
+        }
+        if (values == null) return hits;
+
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            String json = values.get(i);
+            if (json == null) continue;
+            try {
+                fastapi.StudentMatchResponse cached = objectMapper.readValue(json, fastapi.StudentMatchResponse.class);
+                local.put(remoteKeys.get(i), cached);
+                hits.put(remoteLookups.get(i).getId(), cached);
+            } catch (JsonProcessingException e) {
+                System.err.println("Skipping unreadable AI score cache entry " + remoteKeys.get(i) + ": " + e.getMessage());
+            }
+        }
+        return hits;
+    }
+
+    /** Stores fresh FastAPI results; {@code results} maps job id to that job's response. */
+    public void putAll(fastapi.StudentProfile profile, List<Job> jobs, Map<Long, fastapi.StudentMatchResponse> results) {
+        String profileKey = profileKey(profile);
+        Map<String, String> remote = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            fastapi.StudentMatchResponse result = results.get(job.getId());
+            if (result == null) continue;
+            String key = key(profileKey, job);
+            local.put(key, result);
+            try {
+                remote.put(key, objectMapper.writeValueAsString(result));
+            } catch (JsonProcessingException e) {
+                System.err.println("Could not serialize AI score for job " + job.getId() + ": " + e.getMessage());
+            }
+        }
+        if (remote.isEmpty()) return;
+
+        try {
+            // One pipelined round trip for the whole batch
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                remote.forEach((key, json) -> connection.stringCommands().set(
+                        key.getBytes(StandardCharsets.UTF_8),
+                        json.getBytes(StandardCharsets.UTF_8),
+                        Expiration.from(ttl),
+                        RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            System.err.println("AI score cache write failed: " + e.getMessage());
+        }
+    }
+
+    // --- Eager L1 cleanup; Redis copies are already unreachable through the versioned keys ---
+    // Segments are matched exactly; a roll number may itself contain ':' or digits that look like a job id
+    public void evictStudent(String rollNumber) {
+        local.asMap().keySet().removeIf(key -> rollNumber.equals(rollNumberOf(key)));
+    }
+
+    public void evictJob(Long jobId) {
+        String id = String.valueOf(jobId);
+        local.asMap().keySet().removeIf(key -> id.equals(jobIdOf(key)));
+    }
+
+    // ai-score:{roll}:{profile hash}:{job id}:{job updatedAt millis}; only the roll number can hold ':',
+    // so the other segments are found from the end
+    private static String jobIdOf(String key) {
+        int versionStart = key.lastIndexOf(':');
+        int jobStart = key.lastIndexOf(':', versionStart - 1);
+        return key.substring(jobStart + 1, versionStart);
+    }
+
+    private static String rollNumberOf(String key) {
+        int hashStart = key.lastIndexOf(':', key.lastIndexOf(':', key.lastIndexOf(':') - 1) - 1);
+        return key.substring(PREFIX.length(), hashStart);
+    }
+
+    private static String key(String profileKey, Job job) {
+        long version = job.getUpdatedAt() == null ? 0 : job.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return profileKey + ":" + job.getId() + ":" + version;
+    }
+
+    private static String profileKey(fastapi.StudentProfile profile) {
+        return PREFIX + profile.student_id() + ":" + profileHash(profile);
+    }
+
+    /** Hash of every profile field FastAPI sees; changes whenever a score for this student may change. */
+    public static String profileHash(fastapi.StudentProfile profile) {
+        return sha256(String.join("\u0000",
+                String.valueOf(profile.student_id()),
+                String.valueOf(profile.resume_url()),
+                String.valueOf(profile.github_url()),
+                String.valueOf(profile.leetcode_username()),
+                String.valueOf(profile.college_name())));
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.careervector.service;
+
+/**
+ * Thrown instead of calling FastAPI when the path's circuit breaker is open or its bulkhead is full.
+ * Controllers answer it with 503 so the client can retry later.
+ */
+public class AiServiceUnavailableException extends RuntimeException {
+
+    public AiServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,137 @@
+package com.careervector.service;
+
+import com.careervector.dto.fastapi;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Ranks a job's candidates with FastAPI /rank-candidates-summary in chunks of {@code ranking.chunk.size}.
+ * Chunks run in parallel on the rankingChunkExecutor, whose thread count bounds how many are in flight.
+ * A failed chunk is retried on its own, up to {@code ranking.chunk.max-attempts} times. The chunks' results
+ * are merged into one list ordered by final_score, and ranks are renumbered from 1.
+ */
+@Component
+public class ChunkedRanker {
+
+    private static final String RANK_PATH = "/rank-candidates-summary";
+
+    @Autowired private FastApiClient fastApiClient;
+    @Autowired @Qualifier("rankingChunkExecutor") private TaskExecutor executor;
+
+    @Value("${ranking.chunk.size:50}")
+    private int chunkSize;
+
+    @Value("${ranking.chunk.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ranking.chunk.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    public List<fastapi.RankingResponse> rank(String jobDescription, List<fastapi.CandidateInfo> candidates) {
+        if (candidates.isEmpty()) return new ArrayList<>();
+        // Small pools keep FastAPI's own ranking and stay on the caller's thread
+        if (candidates.size() <= chunkSize) {
+            return new ArrayList<>(rankChunk(new fastapi.RankingRequest(jobDescription, candidates)));
+        }
+
+        List<CompletableFuture<List<fastapi.RankingResponse>>> chunks = split(jobDescription, candidates).stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> rankChunk(request), executor))
+                .toList();
+        List<fastapi.RankingResponse> merged = new ArrayList<>();
+        for (CompletableFuture<List<fastapi.RankingResponse>> chunk : chunks) merged.addAll(await(chunk, chunks));
+        return renumber(merged);
+    }
+
+    /**
+     * Ranks chunk by chunk and hands each chunk's results to {@code onChunk} as soon as FastAPI returns them,
+     * without collecting the whole ranking. Ranks are within the chunk. Calls to {@code onChunk} never overlap;
+     * if one throws, the remaining chunks are cancelled and the exception is rethrown here.
+     */
+    public void rankEach(String jobDescription, List<fastapi.CandidateInfo> candidates,
+                         Consumer<List<fastapi.RankingResponse>> onChunk) {
+        Object lock = new Object();
+        // Cancelling a thenAccept stage would not stop its source; the supplyAsync futures are the ones cancelled
+        List<CompletableFuture<List<fastapi.RankingResponse>>> requests = split(jobDescription, candidates).stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> rankChunk(request), executor))
+                .toList();
+        List<CompletableFuture<Void>> handled = requests.stream()
+                .map(request -> request.thenAccept(results -> {
+                    synchronized (lock) {
+                        onChunk.accept(results);
+                    }
+                }))
+                .toList();
+        for (CompletableFuture<Void> chunk : handled) await(chunk, requests);
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    private List<fastapi.RankingRequest> split(String jobDescription, List<fastapi.CandidateInfo> candidates) {
+        List<fastapi.RankingRequest> requests = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += chunkSize) {
+            requests.add(new fastapi.RankingRequest(jobDescription,
+                    List.copyOf(candidates.subList(from, Math.min(from + chunkSize, candidates.size())))));
+        }
+        return requests;
+    }
+
+    // Chunks still queued are not sent once the ranking has failed; `requests` are the supplyAsync futures
+    private static <T> T await(CompletableFuture<T> chunk, List<? extends CompletableFuture<?>> requests) {
+        try {
+            return chunk.join();
+        } catch (CompletionException e) {
+            requests.forEach(request -> request.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private List<fastapi.RankingResponse> rankChunk(fastapi.RankingRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                fastapi.RankingResponse[] response = fastApiClient.post(RANK_PATH, request, fastapi.RankingResponse[].class);
+                return response != null ? Arrays.asList(response) : List.of();
+            } catch (HttpClientErrorException | AiServiceUnavailableException e) {
+                // The request itself is bad, or the circuit is open; sending it again will not help
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) throw e;
+                System.err.println("Ranking chunk of " + request.candidates().size() + " failed (attempt " + attempt
+                        + "/" + maxAttempts + "), retrying: " + e.getMessage());
+                sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    // Ranks from different chunks are not comparable; order the union by final_score (ties by student id)
+    private static List<fastapi.RankingResponse> renumber(List<fastapi.RankingResponse> results) {
+        results.sort(Comparator.comparingDouble(fastapi.RankingResponse::final_score).reversed()
+                .thenComparing(fastapi.RankingResponse::student_id, Comparator.nullsLast(Comparator.naturalOrder())));
+        List<fastapi.RankingResponse> ranked = new ArrayList<>(results.size());
+        int rank = 0;
+        for (fastapi.RankingResponse r : results) {
+            ranked.add(new fastapi.RankingResponse(r.student_id(), ++rank, r.final_score(), r.status(), r.local_score()));
+        }
+        return ranked;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying a ranking chunk");
+        }
+    }
+}
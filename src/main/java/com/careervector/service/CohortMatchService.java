@@ -0,0 +1,134 @@
+package com.careervector.service;
+
+import com.careervector.model.Job;
+import com.careervector.model.Student;
+import com.careervector.repo.JobRepo;
+import com.careervector.repo.StudentRepo;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Students x active jobs keyword match matrix for one college, for the admin placement view.
+ * Rows are scored in parallel on a dedicated ForkJoinPool: the student range is split in halves down to
+ * small row blocks and idle workers steal the remaining halves. Each job is encoded once as a bitset, so a
+ * cell costs a few bit probes and the matrix is filled without allocating per cell.
+ */
+@Service
+public class CohortMatchService {
+
+    // Rows per leaf task; small enough to balance well, large enough to amortize task overhead
+    private static final int ROW_BLOCK = 64;
+
+    @Autowired private StudentRepo studentRepo;
+    @Autowired private JobRepo jobRepo;
+    @Autowired private MatchingService matchingService;
+    @Autowired private ObjectMapper objectMapper;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public record CohortMatrix(String collegeName, List<Student> students, List<Job> jobs, float[][] scores) {}
+
+    public CohortMatrix computeCohortMatrix(String collegeName) {
+        List<Student> students = studentRepo.findByClgName(collegeName);
+        List<Job> jobs = jobRepo.findByIsActive(true);
+
+        long[][] jobBits = new long[jobs.size()][];
+        boolean[] jobHasDescription = new boolean[jobs.size()];
+        for (int j = 0; j < jobs.size(); j++) {
+            String description = jobs.get(j).getDescription();
+            jobHasDescription[j] = description != null && !description.trim().isEmpty();
+            jobBits[j] = matchingService.encode(description).toBits();
+        }
+
+        float[][] scores = new float[students.size()][jobs.size()];
+        pool.invoke(new RowBlock(students, jobBits, jobHasDescription, scores, 0, students.size()));
+        return new CohortMatrix(collegeName, students, jobs, scores);
+    }
+
+    /** Streams the matrix as JSON one student row at a time; -1 ("no score") becomes null. */
+    public void writeJson(CohortMatrix matrix, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("collegeName", matrix.collegeName());
+
+            json.writeArrayFieldStart("jobs");
+            for (Job job : matrix.jobs()) {
+                json.writeStartObject();
+                json.writeNumberField("id", job.getId());
+                json.writeStringField("jobTitle", job.getJobTitle());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("students");
+            for (int i = 0; i < matrix.students().size(); i++) {
+                Student student = matrix.students().get(i);
+                json.writeStartObject();
+                json.writeStringField("rollNumber", student.getRollNumber());
+                json.writeStringField("fullName", student.getFullName());
+                json.writeArrayFieldStart("scores");
+                for (float score : matrix.scores()[i]) {
+                    if (score >= 0) json.writeNumber(Math.round(score));
+                    else json.writeNull();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeEndObject();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private final class RowBlock extends RecursiveAction {
+        private final List<Student> students;
+        private final long[][] jobBits;
+        private final boolean[] jobHasDescription;
+        private final float[][] scores;
+        private final int from;
+        private final int to;
+
+        RowBlock(List<Student> students, long[][] jobBits, boolean[] jobHasDescription, float[][] scores, int from, int to) {
+            this.students = students;
+            this.jobBits = jobBits;
+            this.jobHasDescription = jobHasDescription;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROW_BLOCK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RowBlock(students, jobBits, jobHasDescription, scores, from, mid),
+                        new RowBlock(students, jobBits, jobHasDescription, scores, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                String skills = students.get(i).getSkills();
+                TermSet studentTerms = skills == null || skills.trim().isEmpty() ? TermSet.EMPTY : matchingService.encodeQuery(skills);
+                float[] row = scores[i];
+                for (int j = 0; j < jobBits.length; j++) {
+                    // Same -1 "no score" rule as calculateMatchScore
+                    row[j] = jobHasDescription[j] ? (float) matchingService.score(studentTerms, jobBits[j]) : -1f;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.careervector.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -19,7 +21,7 @@ public class EmailService {
     private String brevoApiKey;
 
     private final String BREVO_API_URL = "https://api.brevo.com/v3/smtp/email";
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired @Qualifier("brevoRestTemplate") private RestTemplate restTemplate;
 
     /**
      * Sends an automated shortlist notification using the professional template.
@@ -0,0 +1,186 @@
+package com.careervector.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight front for read-only FastAPI calls. Concurrent callers asking for the same endpoint with the
+ * same payload (compared as canonical JSON: sorted keys and properties) share one in-flight request: the
+ * first caller sends it, the rest wait on its CompletableFuture and get the same result or exception.
+ * Nothing is kept once the call completes, so this coalesces bursts but does not cache.
+ * Calls with side effects (recruiter decision sync, interview sessions) must not go through here.
+ * Every request that is actually sent passes through {@link FastApiResilience} for its path.
+ */
+@Service
+public class FastApiClient {
+
+    @Autowired @Qualifier("fastApiRestTemplate") private RestTemplate fastApiRestTemplate;
+    @Autowired private FastApiResilience resilience;
+
+    @Value("${fastapi.url}")
+    private String fastApiUrl;
+
+    // Canonical form for coalescing keys (and proxied request bodies); responses are read by the RestTemplate's own converters
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .findAndAddModules()
+            .build();
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /** POSTs {@code payload} as JSON to {@code fastApiUrl + path}. */
+    public <T> T post(String path, Object payload, Class<T> responseType) {
+        return coalesce("POST", path, payload, responseType,
+                () -> fastApiRestTemplate.postForObject(fastApiUrl + path, payload, responseType));
+    }
+
+    // --- Pass-through proxy: FastAPI's status, content type and body bytes go to the client as they arrive ---
+    // No Java object graph or Jackson round trip for the response, and memory stays at one copy buffer however large
+    // the body is. Not coalesced: a stream can be read once, and sharing it would mean buffering it in full.
+    // Repeated report calls are absorbed by AiReportCache instead.
+
+    public ResponseEntity<StreamingResponseBody> proxyPost(String path, Object payload) {
+        return proxy(HttpMethod.POST, path, URI.create(fastApiUrl + path), payload);
+    }
+
+    public ResponseEntity<StreamingResponseBody> proxyGet(String path, Map<String, ?> queryParams) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(fastApiUrl + path);
+        queryParams.forEach(uri::queryParam);
+        return proxy(HttpMethod.GET, path, uri.build().encode().toUri(), null);
+    }
+
+    private ResponseEntity<StreamingResponseBody> proxy(HttpMethod method, String path, URI uri, Object payload) {
+        sent.incrementAndGet();
+        // Upstream 5xx answers are passed on, but still count against the path's circuit breaker
+        ClientHttpResponse upstream = resilience.call(path, () -> open(method, uri, payload), FastApiClient::isServerError);
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            MediaType contentType = upstream.getHeaders().getContentType();
+            if (contentType != null) headers.setContentType(contentType);
+            long length = upstream.getHeaders().getContentLength();
+            if (length >= 0) headers.setContentLength(length);
+            return ResponseEntity.status(upstream.getStatusCode()).headers(headers).body(out -> {
+                try (upstream; InputStream body = upstream.getBody()) {
+                    body.transferTo(out);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            upstream.close();
+            throw e instanceof RuntimeException runtime ? runtime
+                    : new ResourceAccessException("I/O error reading FastAPI " + path + ": " + e.getMessage(), (IOException) e);
+        }
+    }
+
+    private ClientHttpResponse open(HttpMethod method, URI uri, Object payload) {
+        try {
+            ClientHttpRequest request = fastApiRestTemplate.getRequestFactory().createRequest(uri, method);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON, MediaType.ALL));
+            if (payload != null) {
+                request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                request.getBody().write(canonicalMapper.writeValueAsBytes(payload));
+            }
+            return request.execute();
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on " + method + " " + uri + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isServerError(ClientHttpResponse response) {
+        try {
+            return response.getStatusCode().is5xxServerError();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    public Map<String, Long> stats() {
+        return Map.of("sent", sent.get(), "coalesced", coalesced.get(), "inFlight", (long) inFlight.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String method, String path, Object payload, Class<T> responseType, Supplier<T> call) {
+        String key = key(method + " " + path, payload, responseType);
+        if (key == null) {
+            sent.incrementAndGet();
+            return resilience.call(path, call);
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalesced.incrementAndGet();
+            try {
+                return (T) leader.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+
+        // This caller leads: send the request on its own thread and publish the outcome to the followers.
+        // Only the leader takes a bulkhead slot; followers add no load on FastAPI.
+        sent.incrementAndGet();
+        try {
+            T result = resilience.call(path, call);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // endpoint + response type + SHA-256 of the canonical payload; null when the payload cannot be serialized
+    private String key(String endpoint, Object payload, Class<?> responseType) {
+        String hash = canonicalSha256(payload);
+        return hash == null ? null : endpoint + " " + responseType.getName() + " " + hash;
+    }
+
+    /** Hex SHA-256 of the payload as canonical JSON (sorted properties and map keys), or null if it cannot be serialized. */
+    public String canonicalSha256(Object payload) {
+        try {
+            byte[] canonical = canonicalMapper.writeValueAsBytes(payload);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical);
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            System.err.println("Cannot hash FastAPI payload " + payload.getClass().getSimpleName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.careervector.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per FastAPI path isolation, so one hanging AI route cannot tie up every request thread.
+ * <ul>
+ *   <li>Bulkhead: at most {@code max-concurrent} calls in flight per path; a caller waits up to
+ *       {@code bulkhead-wait-ms} for a slot, then fails fast.</li>
+ *   <li>Circuit breaker: over the last {@code window-size} calls (once {@code minimum-calls} have been made),
+ *       a failure rate at or above {@code failure-rate-threshold} percent opens the circuit for {@code open-ms}.
+ *       After that one trial call is let through; it closes the circuit again or re-opens it.</li>
+ * </ul>
+ * Settings are read from {@code ai.resilience.<name>}, overridable per path as
+ * {@code ai.resilience.<path without leading slash>.<name>}, e.g. {@code ai.resilience.learning-path.max-concurrent}.
+ * Rejected calls throw {@link AiServiceUnavailableException}. 4xx answers are the caller's fault and do not
+ * count as failures.
+ */
+@Component
+public class FastApiResilience {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Autowired private Environment env;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    public <T> T call(String path, Supplier<T> call) {
+        return call(path, call, result -> false);
+    }
+
+    /** As {@link #call(String, Supplier)}; results matching {@code isFailure} (e.g. a proxied 5xx) count as failures. */
+    public <T> T call(String path, Supplier<T> call, Predicate<? super T> isFailure) {
+        Guard guard = guards.computeIfAbsent(normalize(path), Guard::new);
+        guard.beforeCall();
+        boolean acquired;
+        try {
+            acquired = guard.bulkhead.tryAcquire(guard.bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            guard.cancelTrial();
+            throw new AiServiceUnavailableException("Interrupted waiting for AI service " + guard.path);
+        }
+        if (!acquired) {
+            guard.cancelTrial();
+            throw new AiServiceUnavailableException("AI service " + guard.path + " is busy, try again shortly");
+        }
+
+        try {
+            T result = call.get();
+            guard.record(!isFailure.test(result));
+            return result;
+        } catch (HttpClientErrorException e) {
+            guard.record(true);
+            throw e;
+        } catch (RuntimeException e) {
+            guard.record(false);
+            throw e;
+        } finally {
+            guard.bulkhead.release();
+        }
+    }
+
+    /** Circuit state, recent failure rate and bulkhead usage per path. */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        guards.forEach((path, guard) -> stats.put(path, guard.stats()));
+        return stats;
+    }
+
+    // Query strings (e.g. ?mode=lite) share their path's guard
+    private static String normalize(String path) {
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    private int setting(String path, String name, int defaultValue) {
+        String perPath = "ai.resilience." + path.replaceFirst("^/", "").replace('/', '.') + "." + name;
+        Integer global = env.getProperty("ai.resilience." + name, Integer.class, defaultValue);
+        return env.getProperty(perPath, Integer.class, global);
+    }
+
+    private final class Guard {
+        final String path;
+        final int maxConcurrent;
+        final long bulkheadWaitMs;
+        final Semaphore bulkhead;
+        final int minimumCalls;
+        final int failureRateThreshold;
+        final long openMs;
+
+        // Ring buffer of the last windowSize outcomes (true = failure); guarded by this
+        final boolean[] window;
+        int next, recorded, failures;
+        State state = State.CLOSED;
+        long openedAt;
+        boolean trialInFlight;
+
+        Guard(String path) {
+            this.path = path;
+            this.maxConcurrent = setting(path, "max-concurrent", 8);
+            this.bulkheadWaitMs = setting(path, "bulkhead-wait-ms", 100);
+            this.bulkhead = new Semaphore(maxConcurrent);
+            this.window = new boolean[Math.max(1, setting(path, "window-size", 20))];
+            this.minimumCalls = Math.min(window.length, setting(path, "minimum-calls", 10));
+            this.failureRateThreshold = setting(path, "failure-rate-threshold", 50);
+            this.openMs = setting(path, "open-ms", 30_000);
+        }
+
+        synchronized void beforeCall() {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openMs) {
+                    throw new AiServiceUnavailableException("AI service " + path + " is temporarily unavailable");
+                }
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    throw new AiServiceUnavailableException("AI service " + path + " is recovering, try again shortly");
+                }
+                trialInFlight = true;
+            }
+        }
+
+        // The trial call never ran (bulkhead full or interrupted); let the next caller try
+        synchronized void cancelTrial() {
+            trialInFlight = false;
+        }
+
+        synchronized void record(boolean success) {
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+                if (success) {
+                    reset();
+                } else {
+                    open();
+                }
+                return;
+            }
+            if (state == State.OPEN) return;
+
+            if (recorded == window.length) {
+                if (window[next]) failures--;
+            } else {
+                recorded++;
+            }
+            window[next] = !success;
+            if (!success) failures++;
+            next = (next + 1) % window.length;
+
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                System.err.println("Opening circuit for FastAPI " + path + ": " + failures + "/" + recorded + " recent calls failed");
+                open();
+            }
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+
+        private void reset() {
+            state = State.CLOSED;
+            Arrays.fill(window, false);
+            next = recorded = failures = 0;
+        }
+
+        synchronized Map<String, Object> stats() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("state", state.name());
+            row.put("recentCalls", recorded);
+            row.put("recentFailures", failures);
+            row.put("inFlight", maxConcurrent - bulkhead.availablePermits());
+            row.put("maxConcurrent", maxConcurrent);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.careervector.service;
+
+import com.careervector.model.Job;
+import com.careervector.repo.JobRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * LSH index over the MinHash signatures of active jobs. Signatures are cut into 16 bands of 8 rows; jobs
+ * sharing any band bucket are candidates, and candidates whose estimated similarity clears the threshold
+ * are near-duplicates. Used to score one job per duplicate group with FastAPI and reuse the result.
+ */
+@Component
+public class JobDuplicateIndex {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = MinHash.NUM_HASHES / BANDS;
+
+    @Autowired private JobRepo jobRepo;
+
+    @Value("${dedup.similarity-threshold:0.9}")
+    private double similarityThreshold;
+
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final Map<Long, LocalDateTime> versions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Job> activeJobs = jobRepo.findByIsActive(true);
+        // Jobs posted before signatures existed get one now; the bulk update leaves updatedAt alone
+        for (Job job : activeJobs) {
+            if (MinHash.decode(job.getMinHashSignature()) != null) continue;
+            String signature = MinHash.encode(MinHash.signature(job.getDescription()));
+            if (signature == null) continue;
+            job.setMinHashSignature(signature);
+            jobRepo.updateMinHashSignature(job.getId(), signature);
+        }
+
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.clear();
+            versions.clear();
+            activeJobs.forEach(this::link);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --- Job writes, applied after they commit so a rolled-back write never reaches the index ---
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSaved(JobService.JobSaved event) {
+        index(event.job());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobRemoved(JobService.JobRemoved event) {
+        remove(event.jobId());
+    }
+
+    public void index(Job job) {
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            if (job.isActive()) link(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Maps every given job id to the representative of its near-duplicate group within the list
+     * (the lowest id). Jobs without duplicates map to themselves.
+     */
+    public Map<Long, Long> representatives(List<Job> jobs) {
+        for (Job job : jobs) {
+            if (!isCurrent(job)) index(job);
+        }
+
+        Set<Long> ids = new HashSet<>();
+        jobs.forEach(job -> ids.add(job.getId()));
+        Map<Long, Long> parent = new HashMap<>();
+        ids.forEach(id -> parent.put(id, id));
+
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                for (Long other : duplicatesOf(id)) {
+                    if (ids.contains(other)) union(parent, id, other);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, Long> representatives = new HashMap<>();
+        ids.forEach(id -> representatives.put(id, find(parent, id)));
+        return representatives;
+    }
+
+    /** Near-duplicate groups among the given jobs, largest first; singletons are left out. */
+    public List<List<Job>> groups(List<Job> jobs) {
+        Map<Long, Long> representatives = representatives(jobs);
+        Map<Long, List<Job>> groups = new TreeMap<>();
+        for (Job job : jobs) {
+            groups.computeIfAbsent(representatives.get(job.getId()), r -> new ArrayList<>()).add(job);
+        }
+        return groups.values().stream()
+                .filter(group -> group.size() > 1)
+                .sorted((a, b) -> Integer.compare(b.size(), a.size()))
+                .toList();
+    }
+
+    // Candidates from shared band buckets, confirmed by signature similarity
+    private Set<Long> duplicatesOf(Long jobId) {
+        int[] signature = signatures.get(jobId);
+        if (signature == null) return Set.of();
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = buckets.get(bandKey(signature, band));
+            if (bucket != null) candidates.addAll(bucket);
+        }
+        candidates.remove(jobId);
+        candidates.removeIf(other -> MinHash.similarity(signature, signatures.get(other)) < similarityThreshold);
+        return candidates;
+    }
+
+    private boolean isCurrent(Job job) {
+        lock.readLock().lock();
+        try {
+            return versions.containsKey(job.getId()) && Objects.equals(versions.get(job.getId()), job.getUpdatedAt());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Job job) {
+        versions.put(job.getId(), job.getUpdatedAt());
+        int[] signature = MinHash.decode(job.getMinHashSignature());
+        if (signature == null) signature = MinHash.signature(job.getDescription());
+        if (signature == null) return;
+
+        signatures.put(job.getId(), signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), k -> new HashSet<>()).add(job.getId());
+        }
+    }
+
+    private void unlink(Long jobId) {
+        versions.remove(jobId);
+        int[] signature = signatures.remove(jobId);
+        if (signature == null) return;
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) continue;
+            bucket.remove(jobId);
+            if (bucket.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    // Band number in the top byte so equal rows in different bands never share a bucket
+    private static long bandKey(int[] signature, int band) {
+        long h = 0;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            h = h * 31 + signature[row];
+        }
+        return ((long) band << 56) ^ (h & 0x00FFFFFFFFFFFFFFL);
+    }
+
+    private static Long find(Map<Long, Long> parent, Long id) {
+        Long root = id;
+        while (!parent.get(root).equals(root)) root = parent.get(root);
+        while (!parent.get(id).equals(root)) {
+            Long next = parent.get(id);
+            parent.put(id, root);
+            id = next;
+        }
+        return root;
+    }
+
+    // Lower id becomes the root, so the representative is the earliest posting
+    private static void union(Map<Long, Long> parent, Long a, Long b) {
+        Long rootA = find(parent, a), rootB = find(parent, b);
+        if (rootA.equals(rootB)) return;
+        if (rootA < rootB) parent.put(rootB, rootA);
+        else parent.put(rootA, rootB);
+    }
+}
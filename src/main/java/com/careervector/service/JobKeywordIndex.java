@@ -0,0 +1,193 @@
+package com.careervector.service;
+
+import com.careervector.model.Job;
+import com.careervector.repo.JobRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index (term id -> posting list of job ids) over the descriptions of active jobs.
+ * Lets a student be scored against every active job with one walk over the student's keywords
+ * instead of re-tokenizing every job description per request. The posting lists double as the
+ * corpus document frequencies for BM25 scoring, so they stay current as jobs are posted, edited or closed.
+ */
+@Component
+public class JobKeywordIndex {
+
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+
+    @Autowired private JobRepo jobRepo;
+    @Autowired private MatchingService matchingService;
+
+    private final Map<Integer, Set<Long>> postings = new HashMap<>();
+    // Terms per job, so an edited/closed job can be unlinked from its posting lists
+    private final Map<Long, TermSet> jobTerms = new HashMap<>();
+    // updatedAt of the indexed copy; a mismatch means another instance edited the job
+    private final Map<Long, LocalDateTime> versions = new HashMap<>();
+    // Sum of indexed description lengths, for the BM25 average document length
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Job> activeJobs = jobRepo.findByIsActive(true);
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            jobTerms.clear();
+            versions.clear();
+            totalLength = 0;
+            activeJobs.forEach(this::link);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --- Job writes, applied after they commit so a rolled-back write never reaches the index ---
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSaved(JobService.JobSaved event) {
+        index(event.job());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobRemoved(JobService.JobRemoved event) {
+        remove(event.jobId());
+    }
+
+    public void index(Job job) {
+        lock.writeLock().lock();
+        try {
+            unlink(job.getId());
+            if (job.isActive()) link(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            unlink(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores a student against the given active jobs in one pass over the student's keywords.
+     * KEYWORD mode has the semantics of {@link MatchingService#calculateMatchScore}; BM25 mode weights each
+     * keyword by its rarity across indexed jobs and its frequency in the job, normalized to 0-100.
+     * Either way a job scores -1 when skills or description are missing.
+     */
+    public Map<Long, Double> scoreAll(String studentSkills, List<Job> activeJobs, MatchingService.Mode mode) {
+        Map<Long, Double> scores = new HashMap<>();
+        activeJobs.forEach(job -> scores.put(job.getId(), -1.0));
+
+        if (studentSkills == null || studentSkills.trim().isEmpty()) return scores;
+
+        // Self-heal jobs whose indexed copy is missing or older than the row we just loaded; before
+        // encoding the student, so the terms of those jobs are in the dictionary
+        for (Job job : activeJobs) {
+            if (!isCurrent(job)) index(job);
+        }
+        TermSet studentTerms = matchingService.encodeQuery(studentSkills);
+        if (studentTerms.isEmpty()) return scores;
+
+        Map<Long, Double> totals = new HashMap<>();
+        double maxTotal;
+        lock.readLock().lock();
+        try {
+            for (Job job : activeJobs) {
+                if (jobTerms.containsKey(job.getId())) totals.put(job.getId(), 0.0);
+            }
+            maxTotal = mode == MatchingService.Mode.BM25 ? accumulateBm25(studentTerms, totals) : accumulateMatches(studentTerms, totals);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        totals.forEach((jobId, total) -> scores.put(jobId, maxTotal > 0 ? (total / maxTotal) * 100 : 0.0));
+        return scores;
+    }
+
+    // Each shared keyword counts 1; the best possible job contains all of the student's keywords
+    private double accumulateMatches(TermSet studentTerms, Map<Long, Double> totals) {
+        for (int i = 0; i < studentTerms.size(); i++) {
+            Set<Long> jobIds = postings.get(studentTerms.id(i));
+            if (jobIds == null) continue;
+            for (Long jobId : jobIds) {
+                totals.computeIfPresent(jobId, (id, total) -> total + 1);
+            }
+        }
+        return studentTerms.size();
+    }
+
+    // Okapi BM25 with the student's skills as the query; the normalizer is the score a job would get
+    // with every known query term at saturating frequency. Terms no job uses cannot move any score
+    // and are left out of it.
+    private double accumulateBm25(TermSet studentTerms, Map<Long, Double> totals) {
+        int jobCount = jobTerms.size();
+        double averageLength = jobCount == 0 ? 0 : (double) totalLength / jobCount;
+        double maxTotal = 0;
+        for (int i = 0; i < studentTerms.size(); i++) {
+            int termId = studentTerms.id(i);
+            Set<Long> jobIds = postings.get(termId);
+            if (jobIds == null) continue;
+
+            double idf = Math.log(1 + (jobCount - jobIds.size() + 0.5) / (jobIds.size() + 0.5));
+            maxTotal += idf * (BM25_K1 + 1);
+            for (Long jobId : jobIds) {
+                TermSet terms = jobTerms.get(jobId);
+                int tf = terms.frequencyOf(termId);
+                double lengthNorm = 1 - BM25_B + BM25_B * terms.length() / averageLength;
+                double weight = idf * tf * (BM25_K1 + 1) / (tf + BM25_K1 * lengthNorm);
+                totals.computeIfPresent(jobId, (id, total) -> total + weight);
+            }
+        }
+        return maxTotal;
+    }
+
+    private boolean isCurrent(Job job) {
+        lock.readLock().lock();
+        try {
+            return versions.containsKey(job.getId()) && Objects.equals(versions.get(job.getId()), job.getUpdatedAt());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Job job) {
+        versions.put(job.getId(), job.getUpdatedAt());
+        String description = job.getDescription();
+        // Jobs without a description stay out of jobTerms and score -1, like calculateMatchScore
+        if (description == null || description.trim().isEmpty()) return;
+
+        TermSet terms = matchingService.encode(description);
+        jobTerms.put(job.getId(), terms);
+        totalLength += terms.length();
+        for (int i = 0; i < terms.size(); i++) {
+            postings.computeIfAbsent(terms.id(i), t -> new HashSet<>()).add(job.getId());
+        }
+    }
+
+    private void unlink(Long jobId) {
+        versions.remove(jobId);
+        TermSet terms = jobTerms.remove(jobId);
+        if (terms == null) return;
+        totalLength -= terms.length();
+        for (int i = 0; i < terms.size(); i++) {
+            Set<Long> jobIds = postings.get(terms.id(i));
+            if (jobIds == null) continue;
+            jobIds.remove(jobId);
+            if (jobIds.isEmpty()) postings.remove(terms.id(i));
+        }
+    }
+}
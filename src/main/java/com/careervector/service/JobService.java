@@ -1,28 +1,45 @@
 //JobService.java
 package com.careervector.service;
 
+import com.careervector.dto.ApplicationStatusView;
+import com.careervector.dto.JobCardView;
+import com.careervector.dto.JobFeedPage;
 import com.careervector.dto.JobRequest;
+import com.careervector.dto.ShortlistBatch;
 import com.careervector.dto.fastapi;
-import com.careervector.dto.fastapi.RankingRequest;
 import com.careervector.dto.fastapi.CandidateInfo;
 import com.careervector.dto.fastapi.RankingResponse;
 import com.careervector.model.Job;
 import com.careervector.model.JobApplication;
 import com.careervector.model.Recruiter;
 import com.careervector.model.Student;
+import com.careervector.model.StudentJobScore;
 import com.careervector.repo.JobApplicationRepo;
 import com.careervector.repo.JobRepo;
 import com.careervector.repo.RecruiterRepo;
+import com.careervector.repo.StudentJobScoreRepo;
 import com.careervector.repo.StudentRepo;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,7 +52,23 @@ public class JobService {
     @Autowired private JobApplicationRepo applicationRepo;
     @Autowired private EmailService emailService;
     @Autowired private MatchingService matchingService;
+    @Autowired private JobKeywordIndex jobKeywordIndex;
+    @Autowired private JobDuplicateIndex jobDuplicateIndex;
+    @Autowired private AiScoreCache aiScoreCache;
+    @Autowired private StudentJobScoreRepo studentJobScoreRepo;
+    @Autowired private ApplicationEventPublisher eventPublisher;
     @Autowired @Qualifier("fastApiRestTemplate") private RestTemplate fastApiRestTemplate;
+    @Autowired private FastApiClient fastApiClient;
+    @Autowired private AiReportCache aiReportCache;
+    @Autowired private FastApiResilience fastApiResilience;
+    @Autowired private ChunkedRanker chunkedRanker;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired @Qualifier("aiScoringExecutor") private Executor aiScoringExecutor;
+    @Autowired @Qualifier("decisionSyncExecutor") private Executor decisionSyncExecutor;
+    // Published on every job write; JobKeywordIndex and JobDuplicateIndex apply them once the write has committed
+    public record JobSaved(Job job) {}
+    public record JobRemoved(Long jobId) {}
+
     // --- 1. POST A NEW JOB ---
     public Job postJob(JobRequest req) {
         Recruiter recruiter = recruiterRepo.findByEmail(req.getRecruiterEmail());
@@ -50,9 +83,13 @@ public class JobService {
                 .isActive(true)
                 .recruiter(recruiter)
                 .numberOfPostings(req.getNumberOfPostings())
+                .minHashSignature(MinHash.encode(MinHash.signature(req.getDescription())))
                 .build();
 
-        return jobRepo.save(job);
+        Job saved = jobRepo.save(job);
+        eventPublisher.publishEvent(new JobSaved(saved));
+        eventPublisher.publishEvent(new StudentJobScoreService.JobChanged(saved.getId()));
+        return saved;
     }
 
     // --- 2. EDIT JOB ---
@@ -63,8 +100,13 @@ public class JobService {
         job.setLocation(req.getLocation());
         job.setSalaryRange(req.getSalaryRange());
         job.setDescription(req.getDescription());
+        job.setMinHashSignature(MinHash.encode(MinHash.signature(req.getDescription())));
         job.setNumberOfPostings(req.getNumberOfPostings());
-        return jobRepo.save(job);
+        Job saved = jobRepo.save(job);
+        eventPublisher.publishEvent(new JobSaved(saved));
+        aiScoreCache.evictJob(jobId);
+        eventPublisher.publishEvent(new StudentJobScoreService.JobChanged(jobId));
+        return saved;
     }
 
     // --- 3. TOGGLE STATUS (Close/Open) ---
@@ -80,13 +122,19 @@ public class JobService {
         }
 
         job.setActive(!job.isActive());
-        return jobRepo.save(job);
+        Job saved = jobRepo.save(job);
+        eventPublisher.publishEvent(new JobSaved(saved));
+        if (saved.isActive()) eventPublisher.publishEvent(new StudentJobScoreService.JobChanged(jobId));
+        return saved;
     }
 
     // --- 4. DELETE JOB ---
     public void deleteJob(Long jobId, String email) {
         Job job = getOwnedJob(jobId, email);
         jobRepo.delete(job);
+        eventPublisher.publishEvent(new JobRemoved(jobId));
+        aiScoreCache.evictJob(jobId);
+        studentJobScoreRepo.deleteByJobId(jobId);
     }
 
     // --- 5. GET RECRUITER'S JOBS ---
@@ -120,30 +168,53 @@ public class JobService {
         applicationRepo.save(application);
     }
 
+    // Default local scoring mode when the caller doesn't ask for one (keyword or bm25)
+    @Value("${matching.mode:keyword}")
+    private String defaultMatchingMode;
+
     // --- STUDENT VIEW: SCORED JOBS ---
     // Updated method in JobService.java
     public List<Map<String, Object>> getJobsWithScores(String rollNumber) {
+        return getJobsWithScores(rollNumber, MatchingService.Mode.valueOf(defaultMatchingMode.trim().toUpperCase()));
+    }
+
+    // Keyword or BM25 scores computed in-process, no FastAPI round trip
+    public List<Map<String, Object>> getJobsWithScores(String rollNumber, MatchingService.Mode mode) {
         Student student = studentRepo.findById(rollNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Student not found"));
 
-        return jobRepo.findByIsActive(true).stream().map(job -> {
+        List<Job> activeJobs = jobRepo.findByIsActive(true);
+        // One walk over the student's keywords instead of re-tokenizing every description
+        Map<Long, Double> scores = jobKeywordIndex.scoreAll(student.getSkills(), activeJobs, mode);
+        Map<Long, ApplicationStatusView> applications = getApplicationStatusByJob(rollNumber);
+
+        return activeJobs.stream().map(job -> {
             Map<String, Object> jobMap = new HashMap<>();
 
-            double score = matchingService.calculateMatchScore(student.getSkills(), job.getDescription());
+            double score = scores.get(job.getId());
 
-            // Find existing application to get status and mail flag
-            Optional<JobApplication> appOpt = applicationRepo.findByJobIdAndStudentRollNumber(job.getId(), rollNumber);
+            // Existing application, for status and mail flag
+            ApplicationStatusView application = applications.get(job.getId());
 
             jobMap.put("job", job);
             jobMap.put("matchScore", score >= 0 ? Math.round(score) : null);
-            jobMap.put("hasApplied", appOpt.isPresent());
-            jobMap.put("applicationStatus", appOpt.map(JobApplication::getStatus).orElse(null));
-            jobMap.put("mailSent", appOpt.map(JobApplication::isMailSent).orElse(false)); // Added for UI locking
+            jobMap.put("hasApplied", application != null);
+            jobMap.put("applicationStatus", application != null ? application.status() : null);
+            jobMap.put("mailSent", application != null && application.mailSent()); // Added for UI locking
 
             return jobMap;
         }).collect(Collectors.toList());
     }
 
+    // All of a student's applications keyed by job id, in one query instead of one per job
+    private Map<Long, ApplicationStatusView> getApplicationStatusByJob(String rollNumber) {
+        Map<Long, ApplicationStatusView> applications = new HashMap<>();
+        for (ApplicationStatusView view : applicationRepo.findStatusViewsByStudentRollNumber(rollNumber)) {
+            applications.put(view.jobId(), view);
+        }
+        return applications;
+    }
+
     public List<JobApplication> getStudentApplications(String rollNumber) {
         return applicationRepo.findByStudentRollNumber(rollNumber);
     }
@@ -190,6 +261,60 @@ public class JobService {
     public List<Job> getJobs() {
         return jobRepo.findByIsActive(true);
     }
+
+    // --- ACTIVE JOB FEED: keyset pages of job cards, newest first ---
+    private static final int MAX_FEED_PAGE = 100;
+
+    @Transactional(readOnly = true)
+    public JobFeedPage getJobFeed(String cursor, int limit, String jobType, String location, String company) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE));
+        LocalDateTime cursorPostedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorPostedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.valueOf(parts[1]);
+        }
+
+        // Same normalization as postJob, so "full-time" finds FULL_TIME
+        String typeFilter = isBlank(jobType) ? null : jobType.trim().toUpperCase().replace("-", "_");
+        String locationFilter = isBlank(location) ? null : "%" + location.trim().toLowerCase() + "%";
+        String companyFilter = isBlank(company) ? null : company.trim().toLowerCase();
+
+        // One extra row tells whether another page exists
+        List<JobCardView> rows = jobRepo.findActiveJobCards(cursorPostedAt, cursorId, typeFilter, locationFilter, companyFilter,
+                PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) return new JobFeedPage(rows, null);
+
+        List<JobCardView> page = rows.subList(0, pageSize);
+        JobCardView last = page.get(pageSize - 1);
+        return new JobFeedPage(new ArrayList<>(page), encodeCursor(last.postedAt() + "|" + last.id()));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String encodeCursor(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException("Invalid feed cursor");
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+    }
+
+    // Near-duplicate groups among active jobs, for the admin view
+    public List<List<Job>> getDuplicateJobGroups() {
+        return jobDuplicateIndex.groups(jobRepo.findByIsActive(true));
+    }
  // Add this to JobService.java
     public List<Job> getAllJobs() {
         // This ignores the isActive flag and returns everything in the job table
@@ -261,25 +386,90 @@ public class JobService {
     private String fastApiUrl;
     private void syncDecisionToAi(String studentId, String jdText, String status) {
         try {
+            // Not through FastApiClient: every decision is a separate write on the FastAPI side
             String url = fastApiUrl + "/recruiter/decision-by-jd-text";
             fastapi.RecruiterDecisionRequest syncReq = new fastapi.RecruiterDecisionRequest(
                 studentId, 
                 jdText, 
                 status.toLowerCase()
             );
-            fastApiRestTemplate.postForObject(url, syncReq, Void.class);
+            fastApiResilience.call("/recruiter/decision-by-jd-text",
+                    () -> fastApiRestTemplate.postForObject(url, syncReq, Void.class));
         } catch (Exception e) {
             // We log the error but don't crash the main transaction
             System.err.println("Failed to sync decision to AI: " + e.getMessage());
         }
     }
+    // Published with the AI decisions of one auto-shortlist; sent to FastAPI once the decisions are committed
+    public record AiDecisionsMade(List<fastapi.RecruiterDecisionRequest> decisions) {}
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onAiDecisionsMade(AiDecisionsMade event) {
+        for (fastapi.RecruiterDecisionRequest decision : event.decisions()) {
+            try {
+                decisionSyncExecutor.execute(() ->
+                        syncDecisionToAi(decision.student_id(), decision.jd_text(), decision.decision()));
+            } catch (RuntimeException e) {
+                System.err.println("Decision sync not queued for " + decision.student_id() + ": " + e.getMessage());
+            }
+        }
+    }
+
     @Transactional
     public void autoShortlistCandidates(Long jobId, String recruiterEmail) {
         Job job = jobRepo.findById(jobId).orElseThrow(() -> new EntityNotFoundException("Job not found"));
         if (!job.getRecruiter().getEmail().equals(recruiterEmail)) throw new RuntimeException("Unauthorized");
 
+        CandidatePreRanking preRanking = prepareAutoShortlist(job);
+
+        try {
+            List<RankingResponse> response = chunkedRanker.rank(job.getDescription(), toCandidateInfos(preRanking.forAi()));
+            applyAiDecisions(byRollNumber(preRanking.forAi()), job.getDescription(), response);
+            queueForReview(preRanking.heldBack(), preRanking);
+        } catch (AiServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("AI Ranking Error: " + e.getMessage());
+        }
+    }
+
+    // Streaming variant: each ranked chunk is applied and handed to onBatch as soon as FastAPI returns it.
+    // No transaction spans the stream: the preparation only reads, and every batch (AI-ranked chunks, then
+    // the held-back applicants put under review) commits on its own just before it is sent. No JDBC connection
+    // is held while FastAPI ranks, a dropped stream keeps the batches already sent, and a failed ranking
+    // leaves the held-back applicants untouched
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamAutoShortlistCandidates(Long jobId, String recruiterEmail, Consumer<ShortlistBatch> onBatch) {
+        Job job = jobRepo.findById(jobId).orElseThrow(() -> new EntityNotFoundException("Job not found"));
+        if (!job.getRecruiter().getEmail().equals(recruiterEmail)) throw new RuntimeException("Unauthorized");
+
+        CandidatePreRanking preRanking = transactionTemplate.execute(status -> prepareAutoShortlist(job));
+        Map<String, Long> applicationIds = new HashMap<>();
+        byRollNumber(preRanking.forAi()).forEach((rollNumber, app) -> applicationIds.put(rollNumber, app.getId()));
+        streamRanking(job, preRanking,
+                chunk -> transactionTemplate.executeWithoutResult(status ->
+                        applyAiDecisions(loadByRollNumber(applicationIds, chunk), job.getDescription(), chunk)),
+                heldBack -> transactionTemplate.executeWithoutResult(status ->
+                        queueForReview(applicationRepo.findByIdInWithStudent(heldBack.stream().map(JobApplication::getId).toList()), preRanking)),
+                onBatch);
+    }
+
+    // The chunk's applications as managed entities of the current transaction, keyed by roll number
+    private Map<String, JobApplication> loadByRollNumber(Map<String, Long> applicationIds, List<RankingResponse> chunk) {
+        List<Long> ids = new ArrayList<>();
+        for (RankingResponse res : chunk) {
+            Long id = applicationIds.get(res.student_id());
+            if (id != null) ids.add(id);
+        }
+        return ids.isEmpty() ? Map.of() : byRollNumber(applicationRepo.findByIdInWithStudent(ids));
+    }
+
+    // Checks the job can be auto-shortlisted and pre-ranks its un-notified applicants locally; changes nothing
+    private CandidatePreRanking prepareAutoShortlist(Job job) {
         // 1. Safety Check: Prevent AI ranking if candidates have already been notified
-        boolean alreadyNotified = applicationRepo.findByJobId(jobId).stream()
+        List<JobApplication> applications = applicationRepo.findByJobIdWithStudent(job.getId());
+        boolean alreadyNotified = applications.stream()
                 .anyMatch(JobApplication::isMailSent);
 
         if (alreadyNotified) {
@@ -289,14 +479,28 @@ public class JobService {
         if (job.isActive()) throw new RuntimeException("Job must be closed first before AI shortlisting.");
 
         // 2. Filter candidates who haven't been notified yet
-        List<JobApplication> appsToRank = applicationRepo.findByJobId(jobId).stream()
+        List<JobApplication> appsToRank = applications.stream()
                 .filter(app -> !app.isMailSent())
                 .toList();
 
-        if (appsToRank.isEmpty()) return;
+        // Only the locally best K (plus an exploration sample) go to the AI ranker
+        return preRankCandidates(job, appsToRank);
+    }
 
-        // 3. Map to Updated DTO (Using Roll Number as student_id)
-        List<CandidateInfo> candidateInfos = appsToRank.stream().map(app -> {
+    // Applicants held back from the AI ranker wait for the recruiter's review, with their local score in
+    // preRankScore; matchScore stays reserved for AI scores.
+    // Called once the AI ranking has succeeded, so a failed ranking does not leave them under review
+    private void queueForReview(List<JobApplication> heldBack, CandidatePreRanking preRanking) {
+        for (JobApplication app : heldBack) {
+            app.setPreRankScore(preRanking.localScore(app));
+            if ("PENDING".equals(app.getStatus())) app.setStatus("UNDER_REVIEW");
+        }
+        if (!heldBack.isEmpty()) applicationRepo.saveAll(heldBack);
+    }
+
+    // 3. Map to Updated DTO (Using Roll Number as student_id)
+    private List<CandidateInfo> toCandidateInfos(List<JobApplication> apps) {
+        return apps.stream().map(app -> {
             Student s = app.getStudent();
             return new CandidateInfo(
                 s.getRollNumber(),          // student_id
@@ -306,43 +510,90 @@ public class JobService {
                 s.getClgName()              // college_name
             );
         }).toList();
+    }
 
-        RankingRequest request = new RankingRequest(job.getDescription(), candidateInfos);
+    private static Map<String, JobApplication> byRollNumber(List<JobApplication> apps) {
+        Map<String, JobApplication> byRollNumber = new HashMap<>();
+        for (JobApplication app : apps) byRollNumber.putIfAbsent(app.getStudent().getRollNumber(), app);
+        return byRollNumber;
+    }
 
-        try {
-            String url = fastApiUrl + "/rank-candidates-summary";
-            RankingResponse[] response = fastApiRestTemplate.postForObject(url, request, RankingResponse[].class);
-
-            if (response != null) {
-                for (RankingResponse res : response) {
-                    applicationRepo.findByJobIdAndStudentRollNumber(jobId, res.student_id())
-                            .ifPresent(app -> {
-                                app.setMatchScore(res.final_score());
-                                
-                                if ("PENDING".equals(app.getStatus())) {
-                                    String aiStatus = res.status().toLowerCase();
-                                    String dbStatus = "PENDING";
-                                    
-                                    if ("shortlist".equals(aiStatus)) dbStatus = "SHORTLISTED";
-                                    else if ("reject".equals(aiStatus)) dbStatus = "REJECTED";
-                                    else if ("review".equals(aiStatus)) dbStatus = "UNDER_REVIEW";
-                                    
-                                    app.setStatus(dbStatus);
-                                    applicationRepo.save(app);
-
-                                    // --- NEW: Sync the AI's "Decision" to the learning endpoint ---
-                                    syncDecisionToAi(
-                                        res.student_id(), 
-                                        app.getJob().getDescription(), 
-                                        dbStatus
-                                    );
-                                }
-                            });
-                }
+    // Applies ranked results to the applications already in memory, saves them in one batch and publishes
+    // the new decisions for FastAPI's learning endpoint (sent after commit, see onAiDecisionsMade)
+    private void applyAiDecisions(Map<String, JobApplication> byRollNumber, String jdText, List<RankingResponse> results) {
+        List<JobApplication> changed = new ArrayList<>();
+        List<fastapi.RecruiterDecisionRequest> decisions = new ArrayList<>();
+        for (RankingResponse res : results) {
+            JobApplication app = byRollNumber.get(res.student_id());
+            if (app == null) continue;
+            app.setMatchScore(res.final_score());
+            changed.add(app);
+
+            if ("PENDING".equals(app.getStatus())) {
+                String aiStatus = res.status().toLowerCase();
+                String dbStatus = "PENDING";
+
+                if ("shortlist".equals(aiStatus)) dbStatus = "SHORTLISTED";
+                else if ("reject".equals(aiStatus)) dbStatus = "REJECTED";
+                else if ("review".equals(aiStatus)) dbStatus = "UNDER_REVIEW";
+
+                app.setStatus(dbStatus);
+                decisions.add(new fastapi.RecruiterDecisionRequest(res.student_id(), jdText, dbStatus));
             }
+        }
+        if (changed.isEmpty()) return;
+        applicationRepo.saveAll(changed);
+        if (!decisions.isEmpty()) eventPublisher.publishEvent(new AiDecisionsMade(decisions));
+    }
+
+    /**
+     * Ranks the pre-ranked candidates chunk by chunk, applying each result and passing every chunk to
+     * onBatch as it completes; once all are ranked, held-back candidates follow, each batch applied with
+     * applyHeldBack first, with status "review", no AI score (final_score 0) and their keyword score in local_score. Ranks run on across batches in the order they are sent; each
+     * chunk is ranked on its own, so order by final_score for one ranking over the whole job.
+     * Nothing is collected, so memory stays at one chunk however many applicants the job has.
+     */
+    private void streamRanking(Job job, CandidatePreRanking preRanking, Consumer<List<RankingResponse>> apply,
+                               Consumer<List<JobApplication>> applyHeldBack, Consumer<ShortlistBatch> onBatch) {
+        int total = preRanking.forAi().size() + preRanking.heldBack().size();
+        int[] ranked = {0};
+        try {
+            chunkedRanker.rankEach(job.getDescription(), toCandidateInfos(preRanking.forAi()), chunk -> {
+                apply.accept(chunk);
+                List<RankingResponse> batch = continueRanks(chunk, ranked[0]);
+                ranked[0] += batch.size();
+                onBatch.accept(new ShortlistBatch(batch, ranked[0], total));
+            });
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Ranking Error: " + e.getMessage());
         }
+
+        List<JobApplication> heldBack = preRanking.heldBackByLocalScore();
+        for (int from = 0; from < heldBack.size(); from += chunkedRanker.chunkSize()) {
+            List<JobApplication> apps = heldBack.subList(from, Math.min(from + chunkedRanker.chunkSize(), heldBack.size()));
+            applyHeldBack.accept(apps);
+            List<RankingResponse> batch = new ArrayList<>();
+            for (JobApplication app : apps) {
+                batch.add(new RankingResponse(app.getStudent().getRollNumber(), ranked[0] + batch.size() + 1,
+                        0.0, "review", preRanking.localScore(app)));
+            }
+            ranked[0] += batch.size();
+            onBatch.accept(new ShortlistBatch(batch, ranked[0], total));
+        }
+    }
+
+    // FastAPI ranks each chunk from 1; renumber in that order, after the `offset` candidates already sent
+    private static List<RankingResponse> continueRanks(List<RankingResponse> chunk, int offset) {
+        List<RankingResponse> sorted = new ArrayList<>(chunk);
+        sorted.sort(Comparator.comparingInt(RankingResponse::rank));
+        List<RankingResponse> renumbered = new ArrayList<>(sorted.size());
+        for (RankingResponse r : sorted) {
+            renumbered.add(new RankingResponse(r.student_id(), offset + renumbered.size() + 1, r.final_score(),
+                    r.status(), r.local_score()));
+        }
+        return renumbered;
     }
 
     // NEW: Bulk Email Method
@@ -354,6 +605,7 @@ public class JobService {
         if (job.isActive()) {
             job.setActive(false);
             jobRepo.save(job);
+            eventPublisher.publishEvent(new JobRemoved(jobId));
         }
 
         List<JobApplication> apps = applicationRepo.findByJobId(jobId);
@@ -388,6 +640,7 @@ public class JobService {
         if (job.isActive()) {
             job.setActive(false);
             jobRepo.save(job);
+            eventPublisher.publishEvent(new JobRemoved(jobId));
         }
 
         // 2. AI Shortlist (Checks for isMailSent internally)
@@ -421,151 +674,396 @@ public class JobService {
         Job job = jobRepo.findById(jobId).orElseThrow(() -> new EntityNotFoundException("Job not found"));
         if (!job.getRecruiter().getEmail().equals(email)) throw new RuntimeException("Unauthorized");
 
-        List<JobApplication> appsToRank = applicationRepo.findByJobId(jobId).stream()
+        List<JobApplication> appsToRank = applicationRepo.findByJobIdWithStudent(jobId).stream()
                 .filter(app -> !app.isMailSent())
                 .toList();
 
         if (appsToRank.isEmpty()) return Collections.emptyList();
 
-        List<fastapi.CandidateInfo> candidateInfos = appsToRank.stream().map(app -> {
-            Student s = app.getStudent();
-            return new fastapi.CandidateInfo(
-                s.getRollNumber(), 
-                s.getResumeUrl(), 
-                s.getGithubUrl(), 
-                extractLeetCodeUsername(s.getLeetcodeUrl()), 
-                s.getClgName()
-            );
-        }).toList();
+        CandidatePreRanking preRanking = preRankCandidates(job, appsToRank);
 
-        fastapi.RankingRequest request = new fastapi.RankingRequest(job.getDescription(), candidateInfos);
+        List<fastapi.CandidateInfo> candidateInfos = toCandidateInfos(preRanking.forAi());
 
         try {
-            String url = fastApiUrl + "/rank-candidates-summary";
-            fastapi.RankingResponse[] response = fastApiRestTemplate.postForObject(url, request, fastapi.RankingResponse[].class);
-            return response != null ? Arrays.asList(response) : Collections.emptyList();
+            // Large pools are ranked in parallel chunks and merged by final_score
+            List<fastapi.RankingResponse> ranked = chunkedRanker.rank(job.getDescription(), candidateInfos);
+
+            // Held-back candidates follow the AI-ranked ones, best local score first; they have no AI score,
+            // so final_score is 0 and the keyword score (a different scale) goes in local_score
+            int rank = ranked.size();
+            for (JobApplication app : preRanking.heldBackByLocalScore()) {
+                ranked.add(new fastapi.RankingResponse(
+                        app.getStudent().getRollNumber(), ++rank, 0.0, "review", preRanking.localScore(app)));
+            }
+            return ranked;
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Ranking Error: " + e.getMessage());
         }
     }
 
+    // Streaming variant of shortlistForJobProcess: batches go to onBatch as they are ranked. Only reads,
+    // so it runs without a transaction rather than holding a connection for the whole stream
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamShortlistForJobProcess(Long jobId, String email, Consumer<ShortlistBatch> onBatch) {
+        Job job = jobRepo.findById(jobId).orElseThrow(() -> new EntityNotFoundException("Job not found"));
+        if (!job.getRecruiter().getEmail().equals(email)) throw new RuntimeException("Unauthorized");
+
+        List<JobApplication> appsToRank = applicationRepo.findByJobIdWithStudent(jobId).stream()
+                .filter(app -> !app.isMailSent())
+                .toList();
+
+        streamRanking(job, preRankCandidates(job, appsToRank), chunk -> {}, apps -> {}, onBatch);
+    }
+
+    // --- LOCAL PRE-RANKING BEFORE THE AI RANKER ---
+    @Value("${ranking.prefilter.top-k:200}")
+    private int prefilterTopK;
+
+    @Value("${ranking.prefilter.exploration:20}")
+    private int prefilterExploration;
+
+    private record CandidatePreRanking(List<JobApplication> forAi, List<JobApplication> heldBack, Map<Long, Double> localScores) {
+        // Local keyword score, or null when the student has no skills on file
+        Double localScore(JobApplication app) {
+            Double score = localScores.get(app.getId());
+            return score != null && score >= 0 ? score : null;
+        }
+
+        List<JobApplication> heldBackByLocalScore() {
+            return heldBack.stream()
+                    .sorted(Comparator.comparingDouble((JobApplication app) -> localScores.get(app.getId())).reversed())
+                    .toList();
+        }
+    }
+
+    /**
+     * Scores every applicant locally with MatchingService and keeps the top K in a bounded min-heap.
+     * The top K plus a random exploration sample of the rest are sent to the AI ranker; small pools go as is.
+     */
+    private CandidatePreRanking preRankCandidates(Job job, List<JobApplication> apps) {
+        if (apps.size() <= prefilterTopK + prefilterExploration) {
+            return new CandidatePreRanking(apps, List.of(), Map.of());
+        }
+
+        TermSet jobTerms = matchingService.encode(job.getDescription());
+        Map<Long, Double> localScores = new HashMap<>();
+        for (JobApplication app : apps) {
+            String skills = app.getStudent().getSkills();
+            double score = skills == null || skills.isBlank() ? -1.0 : matchingService.score(matchingService.encodeQuery(skills), jobTerms);
+            localScores.put(app.getId(), score);
+        }
+
+        // The weakest of the current top K sits at the head and is evicted first
+        PriorityQueue<JobApplication> topK = new PriorityQueue<>(Comparator.comparingDouble((JobApplication app) -> localScores.get(app.getId())));
+        List<JobApplication> rest = new ArrayList<>();
+        for (JobApplication app : apps) {
+            topK.offer(app);
+            if (topK.size() > prefilterTopK) rest.add(topK.poll());
+        }
+
+        // Exploration sample, so candidates with thin skill profiles still get an AI look
+        Collections.shuffle(rest, ThreadLocalRandom.current());
+        int sample = Math.min(prefilterExploration, rest.size());
+        List<JobApplication> forAi = new ArrayList<>(topK);
+        forAi.addAll(rest.subList(0, sample));
+        return new CandidatePreRanking(forAi, new ArrayList<>(rest.subList(sample, rest.size())), localScores);
+    }
+
+    // --- STUDENT VIEW: AI SCORED JOBS, read from student_job_scores ---
+    // No FastAPI call on this path. Each entry carries scoreStatus: FRESH (scored for the current job version
+    // and profile), STALE (older result shown while a refresh runs) or PENDING (not scored yet).
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getJobsWithAiScoring(String rollNumber) {
+    public List<Map<String, Object>> getJobsWithStoredScores(String rollNumber) {
         Student student = studentRepo.findById(rollNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Student not found"));
 
         List<Job> activeJobs = jobRepo.findByIsActive(true);
         if (activeJobs.isEmpty()) return List.of();
 
-        // Updated StudentProfile to match your fastapi.StudentProfile record
-        fastapi.StudentProfile profile = new fastapi.StudentProfile(
+        String profileHash = AiScoreCache.profileHash(toAiProfile(student));
+        Map<Long, StudentJobScore> stored = new HashMap<>();
+        for (StudentJobScore row : studentJobScoreRepo.findByStudentRollNumber(rollNumber)) {
+            stored.put(row.getJobId(), row);
+        }
+        Map<Long, ApplicationStatusView> applications = getApplicationStatusByJob(rollNumber);
+
+        Map<Long, fastapi.StudentMatchResponse> shown = new HashMap<>();
+        boolean needsRefresh = false;
+        for (Job job : activeJobs) {
+            StudentJobScore row = stored.get(job.getId());
+            if (row == null) {
+                needsRefresh = true;
+                continue;
+            }
+            shown.put(job.getId(), new fastapi.StudentMatchResponse(String.valueOf(job.getId()), row.getRank(), row.getFinalScore(),
+                    row.getStatus(), row.getReason(), row.getRoleLevel(), row.getJobReadinessScore(), row.getReadinessLevel()));
+            if (!isFresh(row, job, profileHash)) needsRefresh = true;
+        }
+        if (needsRefresh) eventPublisher.publishEvent(new StudentJobScoreService.StudentChanged(rollNumber));
+
+        // Rows may come from different refreshes; rank what is shown by final_score
+        Map<Long, fastapi.StudentMatchResponse> ranked = rankByFinalScore(shown);
+        Map<Long, Long> representatives = jobDuplicateIndex.representatives(activeJobs);
+
+        return activeJobs.stream().map(job -> {
+            Map<String, Object> responseMap = new HashMap<>();
+            StudentJobScore row = stored.get(job.getId());
+            ApplicationStatusView application = applications.get(job.getId());
+
+            responseMap.put("job", job);
+            responseMap.put("aiStats", ranked.get(job.getId()));
+            putDuplicateOf(responseMap, job, representatives, ranked.containsKey(job.getId()));
+            responseMap.put("scoreStatus", row == null ? "PENDING" : isFresh(row, job, profileHash) ? "FRESH" : "STALE");
+            responseMap.put("scoredAt", row != null ? row.getScoredAt() : null);
+            responseMap.put("hasApplied", application != null);
+            responseMap.put("applicationStatus", application != null ? application.status() : null);
+            responseMap.put("mailSent", application != null && application.mailSent());
+
+            return responseMap;
+        })
+        .sorted(Comparator.comparing(
+                (Map<String, Object> m) -> (fastapi.StudentMatchResponse) m.get("aiStats"),
+                Comparator.nullsLast(Comparator.comparingInt(fastapi.StudentMatchResponse::rank))))
+        .collect(Collectors.toList());
+    }
+
+    // Near-duplicate postings are scored through their group's representative; mark the copies
+    private static void putDuplicateOf(Map<String, Object> responseMap, Job job, Map<Long, Long> representatives, boolean scored) {
+        Long representativeId = representatives.get(job.getId());
+        if (scored && !representativeId.equals(job.getId())) responseMap.put("duplicateOf", representativeId);
+    }
+
+    private static boolean isFresh(StudentJobScore row, Job job, String profileHash) {
+        return Objects.equals(row.getJobUpdatedAt(), job.getUpdatedAt()) && profileHash.equals(row.getProfileHash());
+    }
+
+    @Value("${ai.scoring.deadline-ms:2500}")
+    private long aiDeadlineMs;
+
+    // Live variant: scores inside the request (cached and delta-only), used by /get-scored-jobs/live.
+    // FastAPI gets aiDeadlineMs; if it is late or failing the student gets keyword scores marked degraded,
+    // and a late AI result still lands in the score cache for the next request.
+    // The reads run in one short transaction up front; the deadline wait holds no DB connection.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Map<String, Object>> getJobsWithAiScoring(String rollNumber) {
+        LiveScoringInput input = transactionTemplate.execute(status -> {
+            Student student = studentRepo.findById(rollNumber)
+                    .orElseThrow(() -> new EntityNotFoundException("Student not found"));
+            List<Job> activeJobs = jobRepo.findByIsActive(true);
+            if (activeJobs.isEmpty()) return null;
+            return new LiveScoringInput(student, activeJobs, getApplicationStatusByJob(rollNumber));
+        });
+        if (input == null) return List.of();
+
+        Student student = input.student();
+        List<Job> activeJobs = input.activeJobs();
+        fastapi.StudentProfile profile = toAiProfile(student);
+        Map<Long, fastapi.StudentMatchResponse> aiResults = null;
+        try {
+            // Not cancelled on timeout: scoreJobsWithAi caches whatever FastAPI returns
+            aiResults = CompletableFuture.supplyAsync(() -> scoreJobsWithAi(profile, activeJobs), aiScoringExecutor)
+                    .get(aiDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("AI Scoring missed its " + aiDeadlineMs + " ms deadline for " + rollNumber + ", serving keyword scores");
+        } catch (ExecutionException e) {
+            System.err.println("AI Scoring Error: " + e.getCause().getMessage());
+        } catch (RejectedExecutionException e) {
+            System.err.println("AI Scoring queue full, serving keyword scores: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean degraded = aiResults == null;
+        Map<Long, fastapi.StudentMatchResponse> aiByJob = degraded ? Map.of() : aiResults;
+        Map<Long, Double> keywordScores = degraded
+                ? jobKeywordIndex.scoreAll(student.getSkills(), activeJobs, MatchingService.Mode.KEYWORD)
+                : Map.of();
+        Map<Long, ApplicationStatusView> applications = input.applications();
+        Map<Long, Long> representatives = degraded ? Map.of() : jobDuplicateIndex.representatives(activeJobs);
+
+        List<Map<String, Object>> result = activeJobs.stream().map(job -> {
+            Map<String, Object> responseMap = new HashMap<>();
+            fastapi.StudentMatchResponse aiData = aiByJob.get(job.getId());
+            ApplicationStatusView application = applications.get(job.getId());
+
+            responseMap.put("job", job);
+            responseMap.put("aiStats", aiData);
+            responseMap.put("degraded", degraded);
+            if (degraded) {
+                double score = keywordScores.getOrDefault(job.getId(), -1.0);
+                responseMap.put("matchScore", score >= 0 ? Math.round(score) : null);
+            } else {
+                putDuplicateOf(responseMap, job, representatives, aiData != null);
+            }
+            responseMap.put("hasApplied", application != null);
+            responseMap.put("applicationStatus", application != null ? application.status() : null);
+            responseMap.put("mailSent", application != null && application.mailSent());
+
+            return responseMap;
+        }).collect(Collectors.toList());
+
+        if (degraded) {
+            result.sort(Comparator.comparing((Map<String, Object> m) -> (Long) m.get("matchScore"),
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        } else {
+            result.sort((a, b) -> {
+                fastapi.StudentMatchResponse resA = (fastapi.StudentMatchResponse) a.get("aiStats");
+                fastapi.StudentMatchResponse resB = (fastapi.StudentMatchResponse) b.get("aiStats");
+                if (resA == null || resB == null) return 0;
+                return Integer.compare(resA.rank(), resB.rank());
+            });
+        }
+        return result;
+    }
+
+    private record LiveScoringInput(Student student, List<Job> activeJobs, Map<Long, ApplicationStatusView> applications) {}
+
+    // Profile fields FastAPI scores a student on
+    public fastapi.StudentProfile toAiProfile(Student student) {
+        return new fastapi.StudentProfile(
                 student.getRollNumber(),
                 student.getResumeUrl(),
                 student.getGithubUrl(),
                 extractLeetCodeUsername(student.getLeetcodeUrl()),
                 student.getClgName()
         );
+    }
+
+    /**
+     * AI match results of one student against the given jobs, keyed by job id and ranked by final_score.
+     * Near-duplicate postings share their representative's result, results cached for this profile and job
+     * version are reused, and only new or edited jobs are sent to FastAPI.
+     * Runs outside a transaction so no DB connection is held during the FastAPI call.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, fastapi.StudentMatchResponse> scoreJobsWithAi(fastapi.StudentProfile profile, List<Job> jobs) {
+        // Near-duplicate postings are scored once, through their group's representative
+        Map<Long, Long> representatives = jobDuplicateIndex.representatives(jobs);
+        List<Job> scoredJobs = jobs.stream()
+                .filter(job -> representatives.get(job.getId()).equals(job.getId()))
+                .toList();
 
-        List<fastapi.JobDescriptionInfo> jdList = activeJobs.stream()
-                .map(job -> new fastapi.JobDescriptionInfo(
-                        String.valueOf(job.getId()),
-                        job.getDescription()
-                ))
+        // Results already scored for this profile and job version are reused; only new or edited jobs go to FastAPI
+        Map<Long, fastapi.StudentMatchResponse> aiMap = new HashMap<>(aiScoreCache.getAll(profile, scoredJobs));
+        List<Job> staleJobs = scoredJobs.stream()
+                .filter(job -> !aiMap.containsKey(job.getId()))
                 .toList();
 
-        fastapi.StudentMatchRequest aiRequest = new fastapi.StudentMatchRequest(profile, jdList);
+        if (!staleJobs.isEmpty()) {
+            List<fastapi.JobDescriptionInfo> jdList = staleJobs.stream()
+                    .map(job -> new fastapi.JobDescriptionInfo(
+                            String.valueOf(job.getId()),
+                            job.getDescription()
+                    ))
+                    .toList();
 
-        try {
-            String url = fastApiUrl + "/match-student-jds?mode=lite";
-            fastapi.StudentMatchResponse[] aiResults = fastApiRestTemplate.postForObject(url, aiRequest, fastapi.StudentMatchResponse[].class);
+            fastapi.StudentMatchRequest aiRequest = new fastapi.StudentMatchRequest(profile, jdList);
+            fastapi.StudentMatchResponse[] aiResults = fastApiClient.post("/match-student-jds?mode=lite", aiRequest, fastapi.StudentMatchResponse[].class);
 
-            Map<String, fastapi.StudentMatchResponse> aiMap = new HashMap<>();
+            Map<Long, fastapi.StudentMatchResponse> fresh = new HashMap<>();
             if (aiResults != null) {
                 for (fastapi.StudentMatchResponse res : aiResults) {
-                    aiMap.put(res.jd_id(), res);
+                    fresh.put(Long.valueOf(res.jd_id()), res);
                 }
             }
+            aiScoreCache.putAll(profile, staleJobs, fresh);
+            aiMap.putAll(fresh);
+        }
 
-            return activeJobs.stream().map(job -> {
-                Map<String, Object> responseMap = new HashMap<>();
-                fastapi.StudentMatchResponse aiData = aiMap.get(String.valueOf(job.getId()));
-                Optional<JobApplication> appOpt = applicationRepo.findByJobIdAndStudentRollNumber(job.getId(), rollNumber);
-
-                responseMap.put("job", job);
-                responseMap.put("aiStats", aiData);
-                responseMap.put("hasApplied", appOpt.isPresent());
-                responseMap.put("applicationStatus", appOpt.map(JobApplication::getStatus).orElse(null));
-                responseMap.put("mailSent", appOpt.map(JobApplication::isMailSent).orElse(false));
-
-                return responseMap;
-            })
-            .sorted((a, b) -> {
-                fastapi.StudentMatchResponse resA = (fastapi.StudentMatchResponse) a.get("aiStats");
-                fastapi.StudentMatchResponse resB = (fastapi.StudentMatchResponse) b.get("aiStats");
-                if (resA == null || resB == null) return 0;
-                return Integer.compare(resA.rank(), resB.rank());
-            })
-            .collect(Collectors.toList());
+        // Ranks from different batches are not comparable; rank the merged set by final_score
+        Map<Long, fastapi.StudentMatchResponse> ranked = rankByFinalScore(aiMap);
+        Map<Long, fastapi.StudentMatchResponse> results = new HashMap<>();
+        for (Job job : jobs) {
+            Long representativeId = representatives.get(job.getId());
+            fastapi.StudentMatchResponse result = ranked.get(representativeId);
+            if (result == null) continue;
+            if (!representativeId.equals(job.getId())) {
+                result = new fastapi.StudentMatchResponse(String.valueOf(job.getId()), result.rank(), result.final_score(),
+                        result.status(), result.reason(), result.role_level(), result.job_readiness_score(), result.readiness_level());
+            }
+            results.put(job.getId(), result);
+        }
+        return results;
+    }
 
-        } catch (Exception e) {
-            System.err.println("AI Scoring Error: " + e.getMessage());
-            throw new RuntimeException("Could not fetch AI job recommendations.");
+    // Rank 1 = highest final_score; ties keep job id order so the ranking is stable across calls
+    private static Map<Long, fastapi.StudentMatchResponse> rankByFinalScore(Map<Long, fastapi.StudentMatchResponse> results) {
+        List<Map.Entry<Long, fastapi.StudentMatchResponse>> entries = new ArrayList<>(results.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<Long, fastapi.StudentMatchResponse> e) -> e.getValue().final_score()).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        Map<Long, fastapi.StudentMatchResponse> ranked = new HashMap<>();
+        int rank = 0;
+        for (Map.Entry<Long, fastapi.StudentMatchResponse> entry : entries) {
+            fastapi.StudentMatchResponse r = entry.getValue();
+            ranked.put(entry.getKey(), new fastapi.StudentMatchResponse(r.jd_id(), ++rank, r.final_score(), r.status(),
+                    r.reason(), r.role_level(), r.job_readiness_score(), r.readiness_level()));
         }
+        return ranked;
     }
-    
 
+    // The AI report and proxy calls below run on aiGatewayExecutor threads and only talk to the cache and
+    // FastAPI: no transaction, so none of them holds a pooled JDBC connection for the round trip
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public fastapi.SkillGapReportResponse getSkillGapReport(fastapi.SkillGapReportRequest request) {
         try {
             // Updated endpoint to match your FastAPI route for detailed reports
-            String url = fastApiUrl + "/skill-gap-report";
-
-            return fastApiRestTemplate.postForObject(
-                    url,
-                    request,
-                    fastapi.SkillGapReportResponse.class
-            );
+            return aiReportCache.getOrLoad("skill-gap-report", request, fastapi.SkillGapReportResponse.class,
+                    () -> fastApiClient.post(
+                            "/skill-gap-report",
+                            request,
+                            fastapi.SkillGapReportResponse.class
+                    ));
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Skill Gap Report Error: " + e.getMessage());
         }
     }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public fastapi.LearningPathResponse generateLearningPath(fastapi.LearningPathRequest request) {
-        String url = fastApiUrl + "/learning-path"; // Match your FastAPI endpoint
-        return fastApiRestTemplate.postForObject(url, request, fastapi.LearningPathResponse.class);
+        return aiReportCache.getOrLoad("learning-path", request, fastapi.LearningPathResponse.class,
+                () -> fastApiClient.post("/learning-path", request, fastapi.LearningPathResponse.class));
     }
     
  // Inside JobService.java
 
-    public Object fetchJobReadiness(Map<String, Object> payload) {
-        // 1. Use the configured fastApiUrl from application.properties
-        // 2. Use the @Qualifier("fastApiRestTemplate") bean already defined in your class
-        String url = fastApiUrl + "/job-readiness"; 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> fetchJobReadiness(Map<String, Object> payload) {
+        String url = "/job-readiness";
         
         try {
-            // We use Object.class or a specific DTO to capture the FastAPI response
-            return fastApiRestTemplate.postForObject(url, payload, Object.class);
+            // Passed through as raw bytes with FastAPI's status and content type; repeat views come from the cache
+            return aiReportCache.getOrProxy("job-readiness", payload, () -> fastApiClient.proxyPost(url, payload));
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Analysis Service (FastAPI) is currently unreachable: " + e.getMessage());
         }
     }
  // Logic for Failure Diagnosis
-    public Object fetchFailureDiagnosis(Map<String, Object> payload) {
-        // Construct the FastAPI endpoint URL
-        String url = fastApiUrl + "/failure-diagnosis"; 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> fetchFailureDiagnosis(Map<String, Object> payload) {
+        String url = "/failure-diagnosis";
         
         try {
-            // Proxy the request to FastAPI using the specialized RestTemplate
-            return fastApiRestTemplate.postForObject(url, payload, Object.class);
+            return aiReportCache.getOrProxy("failure-diagnosis", payload, () -> fastApiClient.proxyPost(url, payload));
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI Diagnosis Service (FastAPI) is currently unreachable: " + e.getMessage());
         }
     }
-    public Object fetchAtsScore(Map<String, Object> payload) {
-        // Construct the FastAPI endpoint URL for ATS Check
-        String url = fastApiUrl + "/ats-check"; 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> fetchAtsScore(Map<String, Object> payload) {
+        String url = "/ats-check";
         
         try {
-            // Proxy the request to FastAPI using the specialized RestTemplate
-            return fastApiRestTemplate.postForObject(url, payload, Object.class);
+            return aiReportCache.getOrProxy("ats-check", payload, () -> fastApiClient.proxyPost(url, payload));
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("AI ATS Service (Scanner) is currently unreachable: " + e.getMessage());
         }
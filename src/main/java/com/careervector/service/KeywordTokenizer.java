@@ -0,0 +1,63 @@
+package com.careervector.service;
+
+/**
+ * Char-scanning replacement for {@code text.toLowerCase().split("[\\W_]+")} + {@code length > 2} filter.
+ * Lowercases into a reusable term buffer and hands each term to a {@link TermSink}, so no lowercased copy,
+ * String[] or stream is allocated per description. Not thread-safe: keep one instance per thread.
+ */
+public final class KeywordTokenizer {
+
+    // Tokens of this length or shorter are dropped, as before
+    static final int MIN_TERM_LENGTH = 3;
+
+    @FunctionalInterface
+    public interface TermSink {
+        /** The buffer is reused for the next term; copy what you keep. */
+        void accept(char[] term, int length);
+    }
+
+    private char[] buffer = new char[32];
+    private int length;
+
+    public void tokenize(CharSequence text, TermSink sink) {
+        tokenize(text, 0, text.length(), sink);
+    }
+
+    /** Tokenizes {@code text[from, to)} only, as if the rest of the text were not there. */
+    public void tokenize(CharSequence text, int from, int to, TermSink sink) {
+        length = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                append((char) (c + ('a' - 'A')));
+            } else if (c == '\u212A') {
+                // KELVIN SIGN lowercases to an ASCII 'k'
+                append('k');
+            } else if (c == '\u0130') {
+                // Dotted capital I lowercases to 'i' plus a combining dot, which ends the token
+                append('i');
+                flush(sink);
+            } else {
+                // Everything else, including '_' and non-ASCII letters, is a separator for [\W_]
+                flush(sink);
+            }
+        }
+        flush(sink);
+    }
+
+    private void append(char c) {
+        if (length == buffer.length) {
+            char[] grown = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+        buffer[length++] = c;
+    }
+
+    private void flush(TermSink sink) {
+        if (length >= MIN_TERM_LENGTH) sink.accept(buffer, length);
+        length = 0;
+    }
+}
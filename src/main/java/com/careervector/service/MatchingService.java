@@ -2,34 +2,191 @@ package com.careervector.service;
 
 import org.springframework.stereotype.Service;
 import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class MatchingService {
 
+    // Tokenizer and id buffer are reused across calls, so each request thread gets its own
+    private static final ThreadLocal<EncodeScratch> SCRATCH = ThreadLocal.withInitial(EncodeScratch::new);
+
+    private final TermDictionary dictionary = new TermDictionary();
+    private final SkillDictionary skillDictionary;
+    // Skill id -> term id of its canonical name, so recognized skills share the keyword id space
+    private final int[] skillTermIds;
+
+    public MatchingService(SkillDictionary skillDictionary) {
+        this.skillDictionary = skillDictionary;
+        this.skillTermIds = new int[skillDictionary.size()];
+        for (int skillId = 0; skillId < skillTermIds.length; skillId++) {
+            char[] name = skillDictionary.canonicalName(skillId).toCharArray();
+            skillTermIds[skillId] = dictionary.intern(name, name.length);
+        }
+    }
+
+    /**
+     * KEYWORD: share of the student's keywords found in the job, every keyword weighted equally.
+     * BM25: keywords weighted by how rare they are across active job descriptions (see JobKeywordIndex).
+     */
+    public enum Mode { KEYWORD, BM25 }
+
     public double calculateMatchScore(String studentSkills, String jobDescription) {
         // Return -1 if critical data is missing to signal "no score"
         if (studentSkills == null || studentSkills.trim().isEmpty() || jobDescription == null || jobDescription.trim().isEmpty()) {
             return -1.0;
         }
 
-        Set<String> jobKeywords = extractKeywords(jobDescription);
-        Set<String> studentKeywords = extractKeywords(studentSkills);
+        TermSet jobTerms = encode(jobDescription);
+        return score(encodeQuery(studentSkills), jobTerms);
+    }
+
+    /** Share of the student's keywords found in the job (0-100), or -1 if the student has none. */
+    public double score(TermSet studentTerms, TermSet jobTerms) {
+        if (studentTerms.isEmpty()) return -1.0;
+        return ((double) studentTerms.intersectionCount(jobTerms) / studentTerms.size()) * 100;
+    }
+
+    /** Same as {@link #score(TermSet, TermSet)} with the job given as a bitset from {@link TermSet#toBits()}. */
+    public double score(TermSet studentTerms, long[] jobBits) {
+        if (studentTerms.isEmpty()) return -1.0;
+        return ((double) studentTerms.countIn(jobBits) / studentTerms.size()) * 100;
+    }
+
+    /**
+     * Dictionary-encodes the keywords of a text: the tokens of toLowerCase().split("[\\W_]+")
+     * with words of length <= 2 dropped, plus the canonical names of skills from {@link SkillDictionary}
+     * ("spring boot", "c++", "c"), as sorted distinct term ids with their frequencies.
+     * A recognized skill mention counts once: the tokens inside it ("spring", "boot") are not kept, and of
+     * overlapping mentions only the leftmost-longest is ("c programming" is c once, "generative ai" is not also ai).
+     * New terms are added to the dictionary; use this for job descriptions.
+     */
+    public TermSet encode(String text) {
+        return encode(text, true);
+    }
+
+    /**
+     * Same as {@link #encode(String)} for the student side, without growing the dictionary: terms no job
+     * description has used get negative ids, which still count towards the student's keywords but match
+     * nothing. Encode the job side first, so its terms are known.
+     */
+    public TermSet encodeQuery(String text) {
+        return encode(text, false);
+    }
+
+    private TermSet encode(String text, boolean intern) {
+        if (text == null) return TermSet.EMPTY;
 
-        if (studentKeywords.isEmpty()) return -1.0;
+        EncodeScratch scratch = SCRATCH.get();
+        scratch.count = 0;
+        scratch.matchCount = 0;
+        scratch.unknown.clear();
+        skillDictionary.scan(text, scratch::addMatch);
+        scratch.selectMentions(skillTermIds);
+        KeywordTokenizer.TermSink sink = intern
+                ? (term, length) -> scratch.add(dictionary.intern(term, length))
+                : (term, length) -> scratch.add(lookup(term, length, scratch));
+        int from = 0;
+        for (int i = 0; i < scratch.spanCount; i++) {
+            scratch.tokenizer.tokenize(text, from, scratch.spanStarts[i], sink);
+            from = scratch.spanEnds[i];
+        }
+        scratch.tokenizer.tokenize(text, from, text.length(), sink);
+        if (scratch.count == 0) return TermSet.EMPTY;
 
-        long matches = studentKeywords.stream()
-                .filter(jobKeywords::contains)
-                .count();
+        int[] ids = scratch.ids;
+        Arrays.sort(ids, 0, scratch.count);
+        int[] frequencies = scratch.frequencies(scratch.count);
+        int distinct = 1;
+        frequencies[0] = 1;
+        for (int i = 1; i < scratch.count; i++) {
+            if (ids[i] != ids[distinct - 1]) {
+                ids[distinct] = ids[i];
+                frequencies[distinct++] = 1;
+            } else {
+                frequencies[distinct - 1]++;
+            }
+        }
+        return new TermSet(Arrays.copyOf(ids, distinct), Arrays.copyOf(frequencies, distinct), scratch.count);
+    }
 
-        // Standard calculation
-        return ((double) matches / studentKeywords.size()) * 100;
+    private int lookup(char[] term, int length, EncodeScratch scratch) {
+        int id = dictionary.lookup(term, length);
+        if (id >= 0) return id;
+        return scratch.unknown.computeIfAbsent(new String(term, 0, length), t -> -1 - scratch.unknown.size());
     }
 
-    private Set<String> extractKeywords(String text) {
-        return Arrays.stream(text.toLowerCase().split("[\\W_]+"))
-                .filter(word -> word.length() > 2)
-                .collect(Collectors.toSet());
+    private static final class EncodeScratch {
+        final KeywordTokenizer tokenizer = new KeywordTokenizer();
+        int[] ids = new int[256];
+        int[] frequencies = new int[256];
+        int count;
+        // Every alias match of the current text, overlapping ones included
+        int[] matchSkills = new int[16];
+        int[] matchStarts = new int[16];
+        int[] matchEnds = new int[16];
+        int matchCount;
+        int[] order = new int[16];
+        // The mentions kept by selectMentions: disjoint, in text order
+        int[] spanStarts = new int[16];
+        int[] spanEnds = new int[16];
+        int spanCount;
+        // Unknown query terms of the current text -> their negative ids
+        final Map<String, Integer> unknown = new HashMap<>();
+
+        int[] frequencies(int size) {
+            if (frequencies.length < size) frequencies = new int[ids.length];
+            return frequencies;
+        }
+
+        void add(int id) {
+            if (count == ids.length) ids = Arrays.copyOf(ids, count * 2);
+            ids[count++] = id;
+        }
+
+        void addMatch(int skillId, int start, int end) {
+            if (matchCount == matchSkills.length) {
+                matchSkills = Arrays.copyOf(matchSkills, matchCount * 2);
+                matchStarts = Arrays.copyOf(matchStarts, matchCount * 2);
+                matchEnds = Arrays.copyOf(matchEnds, matchCount * 2);
+            }
+            matchSkills[matchCount] = skillId;
+            matchStarts[matchCount] = start;
+            matchEnds[matchCount++] = end;
+        }
+
+        // Leftmost-longest: walking the matches by start (longest first), keep each one that begins after the
+        // last kept one ends. "react js" is react alone, not react plus javascript for its "js".
+        void selectMentions(int[] skillTermIds) {
+            if (order.length < matchCount) order = new int[matchSkills.length];
+            // Insertion sort: a text has few matches, and they already arrive nearly in start order
+            for (int i = 0; i < matchCount; i++) {
+                int j = i;
+                while (j > 0 && startsBefore(i, order[j - 1])) {
+                    order[j] = order[j - 1];
+                    j--;
+                }
+                order[j] = i;
+            }
+
+            if (spanStarts.length < matchCount) {
+                spanStarts = new int[matchSkills.length];
+                spanEnds = new int[matchSkills.length];
+            }
+            spanCount = 0;
+            int covered = 0;
+            for (int i = 0; i < matchCount; i++) {
+                int match = order[i];
+                if (matchStarts[match] < covered) continue;
+                add(skillTermIds[matchSkills[match]]);
+                spanStarts[spanCount] = matchStarts[match];
+                spanEnds[spanCount++] = matchEnds[match];
+                covered = matchEnds[match];
+            }
+        }
+
+        private boolean startsBefore(int a, int b) {
+            return matchStarts[a] < matchStarts[b] || (matchStarts[a] == matchStarts[b] && matchEnds[a] > matchEnds[b]);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.careervector.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * MinHash signatures over word 3-gram shingles of a job description. The fraction of positions where two
+ * signatures agree estimates the Jaccard similarity of the two shingle sets, so near-identical reposts
+ * can be found by comparing 128 ints instead of the texts.
+ */
+public final class MinHash {
+
+    public static final int NUM_HASHES = 128;
+    private static final int SHINGLE_WORDS = 3;
+
+    // Fixed seeds: signatures are persisted, so every instance and restart must hash the same way
+    private static final long[] SEEDS = new long[NUM_HASHES];
+    static {
+        long state = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(state);
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /** Signature of the text, or null if it has no words to shingle. */
+    public static int[] signature(String text) {
+        if (text == null || text.trim().isEmpty()) return null;
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        long[] window = new long[SHINGLE_WORDS];
+        int[] words = {0};
+
+        new KeywordTokenizer().tokenize(text, (term, length) -> {
+            window[words[0] % SHINGLE_WORDS] = wordHash(term, length);
+            words[0]++;
+            if (words[0] >= SHINGLE_WORDS) addShingle(signature, shingleHash(window, words[0]));
+        });
+        if (words[0] == 0) return null;
+        // Descriptions shorter than one shingle are hashed as the words they have
+        if (words[0] < SHINGLE_WORDS) addShingle(signature, shingleHash(window, words[0]));
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity of the texts behind two signatures. */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    // --- Compact form stored in Job.minHashSignature ---
+    public static String encode(int[] signature) {
+        if (signature == null) return null;
+        ByteBuffer buffer = ByteBuffer.allocate(NUM_HASHES * Integer.BYTES);
+        for (int value : signature) buffer.putInt(value);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    /** Inverse of {@link #encode}; null for a missing or malformed value, so the caller recomputes it. */
+    public static int[] decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) return null;
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (bytes.length != NUM_HASHES * Integer.BYTES) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) signature[i] = buffer.getInt();
+        return signature;
+    }
+
+    private static void addShingle(int[] signature, long shingle) {
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int h = (int) mix(shingle ^ SEEDS[i]);
+            if (h < signature[i]) signature[i] = h;
+        }
+    }
+
+    // Order-sensitive combination of the last `words` (at most SHINGLE_WORDS) word hashes
+    private static long shingleHash(long[] window, int words) {
+        long h = 0;
+        for (int k = Math.max(0, words - SHINGLE_WORDS); k < words; k++) {
+            h = h * 0x100000001B3L + window[k % SHINGLE_WORDS];
+        }
+        return h;
+    }
+
+    // FNV-1a over the term's chars
+    private static long wordHash(char[] term, int length) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < length; i++) {
+            h ^= term[i];
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
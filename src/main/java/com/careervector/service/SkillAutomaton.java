@@ -0,0 +1,174 @@
+package com.careervector.service;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over skill aliases. Scans text once, left to right, and reports the index of
+ * every alias that occurs as a whole word. Matching is case-insensitive and treats any run of whitespace
+ * as a single space, so "Spring   Boot" and "spring boot" are the same alias.
+ * Immutable once built, so one instance can be shared by all request threads.
+ */
+final class SkillAutomaton {
+
+    @FunctionalInterface
+    interface AliasSink {
+        /** {@code start} and {@code end} are the match's char offsets in the scanned text, end exclusive. */
+        void accept(int alias, int start, int end);
+    }
+
+    private final char[] alphabet;      // char -> column in the transition table, 0 = not used by any alias
+    private final int columns;
+    private final int[] transitions;    // state * columns + column -> next state (complete DFA)
+    private final int[][] outputs;      // aliases ending in each state, suffix matches included
+    private final int[] aliasLength;
+    private final boolean[] needsLeftBoundary;
+    private final boolean[] needsRightBoundary;
+    private final int maxAliasLength;
+
+    /** @param aliases normalized (see {@link #normalize(String)}), non-empty and distinct */
+    SkillAutomaton(List<String> aliases) {
+        int aliasCount = aliases.size();
+        aliasLength = new int[aliasCount];
+        needsLeftBoundary = new boolean[aliasCount];
+        needsRightBoundary = new boolean[aliasCount];
+
+        alphabet = new char[Character.MAX_VALUE + 1];
+        char nextColumn = 1;
+        for (String alias : aliases) {
+            for (char c : alias.toCharArray()) {
+                if (alphabet[c] == 0) alphabet[c] = nextColumn++;
+            }
+        }
+        columns = nextColumn;
+
+        // 1. Trie of all aliases
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(newRow());
+        terminal.add(new ArrayList<>());
+        int longest = 0;
+        for (int aliasId = 0; aliasId < aliasCount; aliasId++) {
+            String alias = aliases.get(aliasId);
+            int state = 0;
+            for (char c : alias.toCharArray()) {
+                int column = alphabet[c];
+                if (trie.get(state)[column] < 0) {
+                    trie.get(state)[column] = trie.size();
+                    trie.add(newRow());
+                    terminal.add(new ArrayList<>());
+                }
+                state = trie.get(state)[column];
+            }
+            terminal.get(state).add(aliasId);
+            aliasLength[aliasId] = alias.length();
+            needsLeftBoundary[aliasId] = isWordChar(alias.charAt(0));
+            needsRightBoundary[aliasId] = isWordChar(alias.charAt(alias.length() - 1));
+            longest = Math.max(longest, alias.length());
+        }
+        maxAliasLength = longest;
+
+        // 2. Failure links in BFS order, folded into a complete transition table
+        int stateCount = trie.size();
+        transitions = new int[stateCount * columns];
+        int[] failure = new int[stateCount];
+        outputs = new int[stateCount][];
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(terminal.get(0));
+        for (int column = 0; column < columns; column++) {
+            int child = trie.get(0)[column];
+            transitions[column] = Math.max(child, 0);
+            if (child > 0) {
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> merged = new ArrayList<>(terminal.get(state));
+            for (int inherited : outputs[failure[state]]) merged.add(inherited);
+            outputs[state] = toArray(merged);
+
+            for (int column = 0; column < columns; column++) {
+                int child = trie.get(state)[column];
+                int fallback = transitions[failure[state] * columns + column];
+                if (child > 0) {
+                    failure[child] = fallback;
+                    transitions[state * columns + column] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * columns + column] = fallback;
+                }
+            }
+        }
+    }
+
+    /** Reports every whole-word alias occurrence, in order of where it ends. */
+    void scan(CharSequence text, AliasSink sink) {
+        // Recent normalized chars, to look at the char just before a match, and where each came from in the text
+        char[] recent = new char[maxAliasLength + 1];
+        int[] offsets = new int[recent.length];
+        int position = 0;                 // normalized chars consumed so far
+        int state = 0;
+        int pendingState = -1;            // state whose matches still need their right boundary checked
+        char previous = ' ';
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? normalize(text.charAt(i)) : ' ';
+            if (c == ' ' && previous == ' ' && i < n) continue;
+
+            if (pendingState >= 0) {
+                emit(pendingState, position, recent, offsets, !isWordChar(c), sink);
+                pendingState = -1;
+            }
+            if (i == n) break;
+
+            recent[position % recent.length] = c;
+            offsets[position % recent.length] = i;
+            position++;
+            previous = c;
+            state = transitions[state * columns + alphabet[c]];
+            if (outputs[state].length > 0) pendingState = state;
+        }
+    }
+
+    private void emit(int state, int end, char[] recent, int[] offsets, boolean rightBoundary, AliasSink sink) {
+        for (int alias : outputs[state]) {
+            if (needsRightBoundary[alias] && !rightBoundary) continue;
+            int start = end - aliasLength[alias];
+            if (needsLeftBoundary[alias] && start > 0 && isWordChar(recent[(start - 1) % recent.length])) continue;
+            sink.accept(alias, offsets[start % recent.length], offsets[(end - 1) % recent.length] + 1);
+        }
+    }
+
+    /** Lowercases and maps every whitespace char to a plain space, the form aliases are stored in. */
+    static char normalize(char c) {
+        if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+        if (c < 128) return Character.isWhitespace(c) ? ' ' : c;
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    static String normalize(String alias) {
+        StringBuilder sb = new StringBuilder(alias.length());
+        for (char c : alias.trim().toCharArray()) {
+            char normalized = normalize(c);
+            if (normalized == ' ' && sb.length() > 0 && sb.charAt(sb.length() - 1) == ' ') continue;
+            sb.append(normalized);
+        }
+        return sb.toString();
+    }
+
+    // '+' and '#' count as word chars so "c" is not reported inside "c++" or "c#"
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '#' || Character.isLetterOrDigit(c);
+    }
+
+    private int[] newRow() {
+        int[] row = new int[columns];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,81 @@
+package com.careervector.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Skill dictionary (canonical names plus synonyms/aliases) loaded from skills.txt and compiled into an
+ * Aho-Corasick automaton at startup. Recognizes multi-word and symbol skills ("spring boot", "c++") and
+ * short ones ("c", "ai") that the keyword tokenizer cannot see, in one linear pass.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final String RESOURCE = "/skills.txt";
+
+    private final List<String> canonicalNames = new ArrayList<>();
+    private final int[] aliasSkill;
+    private final SkillAutomaton automaton;
+
+    public SkillDictionary() {
+        Map<String, Integer> aliasToSkill = new LinkedHashMap<>();
+        try (InputStream in = SkillDictionary.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IllegalStateException("Skill dictionary not found on classpath: " + RESOURCE);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                int colon = line.indexOf(':');
+                String canonical = SkillAutomaton.normalize(colon < 0 ? line : line.substring(0, colon));
+                int skillId = canonicalNames.size();
+                canonicalNames.add(canonical);
+                aliasToSkill.putIfAbsent(canonical, skillId);
+                if (colon < 0) continue;
+                for (String alias : line.substring(colon + 1).split(",")) {
+                    String normalized = SkillAutomaton.normalize(alias);
+                    if (!normalized.isEmpty()) aliasToSkill.putIfAbsent(normalized, skillId);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read skill dictionary " + RESOURCE, e);
+        }
+
+        List<String> aliases = new ArrayList<>(aliasToSkill.keySet());
+        aliasSkill = new int[aliases.size()];
+        for (int i = 0; i < aliases.size(); i++) {
+            String alias = aliases.get(i);
+            aliasSkill[i] = aliasToSkill.get(alias);
+        }
+        automaton = new SkillAutomaton(aliases);
+    }
+
+    public int size() {
+        return canonicalNames.size();
+    }
+
+    public String canonicalName(int skillId) {
+        return canonicalNames.get(skillId);
+    }
+
+    @FunctionalInterface
+    public interface SpanSink {
+        /** {@code start} and {@code end} are the mention's char offsets in the text, end exclusive. */
+        void accept(int skillId, int start, int end);
+    }
+
+    /**
+     * Reports the skill id and position of every skill mentioned in the text, once per occurrence. Overlapping
+     * mentions are all reported ("react js" is react, and javascript for its "js"), in order of where they end.
+     */
+    public void scan(CharSequence text, SpanSink sink) {
+        automaton.scan(text, (alias, start, end) -> sink.accept(aliasSkill[alias], start, end));
+    }
+}
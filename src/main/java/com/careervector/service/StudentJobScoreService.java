@@ -0,0 +1,125 @@
+package com.careervector.service;
+
+import com.careervector.dto.fastapi;
+import com.careervector.model.Job;
+import com.careervector.model.Student;
+import com.careervector.model.StudentJobScore;
+import com.careervector.repo.JobRepo;
+import com.careervector.repo.StudentJobScoreRepo;
+import com.careervector.repo.StudentRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the student_job_scores table up to date off the request path. Job and profile changes publish an
+ * event; after the change commits, the affected students are queued on the scoreRefreshExecutor, which
+ * scores them through {@link JobService#scoreJobsWithAi} (so only new or edited jobs reach FastAPI) and
+ * upserts their rows. A student already waiting in the queue is not queued twice, and a change that arrives
+ * while the student's refresh runs queues one more after it.
+ */
+@Service
+public class StudentJobScoreService {
+
+    // --- Published by JobService / StudentService ---
+    public record JobChanged(Long jobId) {}
+    public record StudentChanged(String rollNumber) {}
+
+    @Autowired private StudentJobScoreRepo scoreRepo;
+    @Autowired private StudentRepo studentRepo;
+    @Autowired private JobRepo jobRepo;
+    @Autowired private JobService jobService;
+    @Autowired @Qualifier("scoreRefreshExecutor") private TaskExecutor executor;
+
+    // WAITING: queued, not started; RUNNING: being refreshed; RERUN: changed again while RUNNING.
+    // A student has at most one refresh at a time, so two tasks never insert the same (student, job) row
+    private enum RefreshState { WAITING, RUNNING, RERUN }
+
+    private final Map<String, RefreshState> refreshes = new ConcurrentHashMap<>();
+
+    // A new or edited job changes every scorable student's list
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChanged event) {
+        studentRepo.findRollNumbersWithResume().forEach(this::requestRefresh);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChanged event) {
+        requestRefresh(event.rollNumber());
+    }
+
+    public void requestRefresh(String rollNumber) {
+        boolean[] added = {false};
+        refreshes.compute(rollNumber, (roll, state) -> {
+            if (state == null) {
+                added[0] = true;
+                return RefreshState.WAITING;
+            }
+            // A waiting refresh will see the change; a running one may have read the old data already
+            return state == RefreshState.RUNNING ? RefreshState.RERUN : state;
+        });
+        if (added[0]) submit(rollNumber);
+    }
+
+    private void submit(String rollNumber) {
+        try {
+            executor.execute(() -> {
+                refreshes.put(rollNumber, RefreshState.RUNNING);
+                try {
+                    refresh(rollNumber);
+                } catch (Exception e) {
+                    System.err.println("Score refresh failed for " + rollNumber + ": " + e.getMessage());
+                }
+                RefreshState next = refreshes.compute(rollNumber,
+                        (roll, state) -> state == RefreshState.RERUN ? RefreshState.WAITING : null);
+                if (next != null) submit(rollNumber);
+            });
+        } catch (RuntimeException e) {
+            refreshes.remove(rollNumber);
+            System.err.println("Score refresh not queued for " + rollNumber + ": " + e.getMessage());
+        }
+    }
+
+    private void refresh(String rollNumber) {
+        Student student = studentRepo.findById(rollNumber).orElse(null);
+        if (student == null) return;
+        List<Job> activeJobs = jobRepo.findByIsActive(true);
+        if (activeJobs.isEmpty()) return;
+
+        fastapi.StudentProfile profile = jobService.toAiProfile(student);
+        String profileHash = AiScoreCache.profileHash(profile);
+        Map<Long, fastapi.StudentMatchResponse> results = jobService.scoreJobsWithAi(profile, activeJobs);
+
+        Map<Long, StudentJobScore> rows = scoreRepo.findByStudentRollNumber(rollNumber).stream()
+                .collect(Collectors.toMap(StudentJobScore::getJobId, Function.identity(), (a, b) -> a));
+        List<StudentJobScore> changed = new ArrayList<>();
+        for (Job job : activeJobs) {
+            fastapi.StudentMatchResponse result = results.get(job.getId());
+            if (result == null) continue;
+            StudentJobScore row = rows.computeIfAbsent(job.getId(), id -> {
+                StudentJobScore created = new StudentJobScore();
+                created.setStudentRollNumber(rollNumber);
+                created.setJobId(id);
+                return created;
+            });
+            row.setJobUpdatedAt(job.getUpdatedAt());
+            row.setProfileHash(profileHash);
+            row.setRank(result.rank());
+            row.setFinalScore(result.final_score());
+            row.setStatus(result.status());
+            row.setReason(result.reason());
+            row.setRoleLevel(result.role_level());
+            row.setJobReadinessScore(result.job_readiness_score());
+            row.setReadinessLevel(result.readiness_level());
+            changed.add(row);
+        }
+        scoreRepo.saveAll(changed);
+    }
+}
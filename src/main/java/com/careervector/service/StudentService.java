@@ -7,15 +7,10 @@ import com.careervector.repo.StudentRepo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
@@ -37,6 +32,12 @@ public class StudentService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AiScoreCache aiScoreCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // --- OTP Logic ---
@@ -164,6 +165,9 @@ public class StudentService {
 
         student.setResumeUrl(newUrl);
         studentRepo.save(student);
+        aiScoreCache.evictStudent(student.getRollNumber());
+        // New resume: re-score in the background once this transaction commits
+        eventPublisher.publishEvent(new StudentJobScoreService.StudentChanged(student.getRollNumber()));
         return newUrl;
     }
 
@@ -203,6 +207,12 @@ public class StudentService {
         if(dto.getGpa_sem_7()!=null) student.setGpaSem7(dto.getGpa_sem_7());
         if(dto.getGpa_sem_8()!=null) student.setGpaSem8(dto.getGpa_sem_8());
 
+        // Profile fields sent to FastAPI changed; the old AI scores no longer apply
+        if(dto.getGithubUrl()!=null || dto.getLeetcodeUrl()!=null || dto.getClgName()!=null) {
+            aiScoreCache.evictStudent(student.getRollNumber());
+            eventPublisher.publishEvent(new StudentJobScoreService.StudentChanged(student.getRollNumber()));
+        }
+
         return studentRepo.save(student);
     }
 
@@ -219,28 +229,17 @@ public class StudentService {
     /**
      * Connects to FastAPI to extract skills from a resume URL.
      */
- // FIX: Move the @Value to the String variable, not the RestTemplate
-    @Value("${fastapi.url}")
-    private String fastApiUrl;
-
-    @Autowired 
-    @Qualifier("fastApiRestTemplate") 
-    private RestTemplate fastApiRestTemplate;
+    @Autowired
+    private FastApiClient fastApiClient;
 
     public Map<String, Object> extractSkillsFromResume(String resumeUrl) {
-        // Use the instance variable fastApiUrl
-        String url = fastApiUrl + "/extract-skills";
-
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("resume_url", resumeUrl);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
-
         try {
-            return fastApiRestTemplate.postForObject(url, entity, Map.class);
+            return fastApiClient.post("/extract-skills", requestBody, Map.class);
+        } catch (AiServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("FastAPI Skill Extraction Error: " + e.getMessage());
             throw new RuntimeException("Failed to extract skills from AI service.");
@@ -1,5 +1,7 @@
 package com.careervector.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -18,7 +20,7 @@ public class SupabaseService {
     @Value("${secret_key}")
     private String secretKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired @Qualifier("supabaseRestTemplate") private RestTemplate restTemplate;
 
     public String uploadFile(MultipartFile file, String bucket, String fileName) {
         try {
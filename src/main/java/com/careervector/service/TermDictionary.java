@@ -0,0 +1,102 @@
+package com.careervector.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Global dictionary of normalized terms to dense int ids (0, 1, 2, ...).
+ * Lookups take the tokenizer's char buffer directly, so encoding a known term allocates nothing.
+ * Ids are never reassigned, which keeps every encoded {@link TermSet} valid for the life of the JVM.
+ */
+public class TermDictionary {
+
+    private char[][] keys = new char[1024][];
+    private int[] ids = new int[1024];
+    private int size;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Returns the term's id, assigning the next free one if the term is new. */
+    public int intern(char[] term, int length) {
+        int hash = hash(term, length);
+        lock.readLock().lock();
+        try {
+            int slot = find(term, length, hash);
+            if (keys[slot] != null) return ids[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Another thread may have added it between the two locks
+            int slot = find(term, length, hash);
+            if (keys[slot] != null) return ids[slot];
+
+            keys[slot] = Arrays.copyOf(term, length);
+            ids[slot] = size++;
+            if (size * 2 > keys.length) grow();
+            return size - 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Returns the term's id, or -1 if it has never been interned. */
+    public int lookup(char[] term, int length) {
+        lock.readLock().lock();
+        try {
+            int slot = find(term, length, hash(term, length));
+            return keys[slot] != null ? ids[slot] : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Linear probing; the table is kept at most half full so a free slot always exists
+    private int find(char[] term, int length, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null && !matches(keys[slot], term, length)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        char[][] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new char[oldKeys.length * 2][];
+        ids = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int slot = find(oldKeys[i], oldKeys[i].length, hash(oldKeys[i], oldKeys[i].length));
+            keys[slot] = oldKeys[i];
+            ids[slot] = oldIds[i];
+        }
+    }
+
+    private static boolean matches(char[] key, char[] term, int length) {
+        if (key.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != term[i]) return false;
+        }
+        return true;
+    }
+
+    private static int hash(char[] term, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) h = 31 * h + term[i];
+        // Spread the high bits, String.hashCode clusters badly on short ASCII keys
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,97 @@
+package com.careervector.service;
+
+import java.util.Arrays;
+
+/**
+ * Distinct term ids of one text, sorted ascending, with how often each occurred. Intersections are a
+ * merge of two int arrays (or bit probes against a {@code long[]} bitset), so scoring never hashes
+ * strings or allocates. Sets from {@link MatchingService#encodeQuery} may hold negative ids for terms
+ * the dictionary does not know; those never match.
+ */
+public final class TermSet {
+
+    public static final TermSet EMPTY = new TermSet(new int[0], new int[0], 0);
+
+    private final int[] ids;
+    private final int[] frequencies;
+    private final int length;
+
+    // Caller hands over a sorted, duplicate-free id array and the matching frequencies
+    TermSet(int[] ids, int[] frequencies, int length) {
+        this.ids = ids;
+        this.frequencies = frequencies;
+        this.length = length;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int id(int index) {
+        return ids[index];
+    }
+
+    /** Occurrences of the {@code index}-th term in the text. */
+    public int frequency(int index) {
+        return frequencies[index];
+    }
+
+    /** Number of kept tokens in the text, duplicates included (the BM25 document length). */
+    public int length() {
+        return length;
+    }
+
+    /** Occurrences of term {@code id}, or 0 if absent. */
+    public int frequencyOf(int id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? frequencies[index] : 0;
+    }
+
+    /** Number of ids present in both sets, by merging the two sorted arrays. */
+    public int intersectionCount(TermSet other) {
+        int[] a = ids, b = other.ids;
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /** Number of ids whose bit is set in {@code bits} (see {@link #toBits()}). */
+    public int countIn(long[] bits) {
+        int count = 0;
+        for (int id : ids) {
+            int word = id >>> 6;
+            if (word < bits.length && (bits[word] & (1L << id)) != 0) count++;
+        }
+        return count;
+    }
+
+    /** Bitset over term ids, for probing one text against many others. */
+    public long[] toBits() {
+        long[] bits = new long[ids.length == 0 || ids[ids.length - 1] < 0 ? 0 : (ids[ids.length - 1] >>> 6) + 1];
+        for (int id : ids) {
+            if (id >= 0) bits[id >>> 6] |= 1L << id;
+        }
+        return bits;
+    }
+
+    /** Popcount of {@code a AND b}. */
+    public static int andCardinality(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+}
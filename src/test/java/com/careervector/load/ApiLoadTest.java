@@ -0,0 +1,258 @@
+package com.careervector.load;
+
+import com.careervector.model.Job;
+import com.careervector.model.JobApplication;
+import com.careervector.model.Recruiter;
+import com.careervector.model.Student;
+import com.careervector.repo.JobApplicationRepo;
+import com.careervector.repo.JobRepo;
+import com.careervector.repo.RecruiterRepo;
+import com.careervector.repo.StudentRepo;
+import com.careervector.service.EmailService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load scenarios against the REST API, with {@link FastApiStub} as the AI server and in-memory H2
+ * as the database (profile "load"). Tagged "load" and excluded from the default build; run with
+ * {@code mvn test -Pload}. Knobs are system properties: load.users, load.warmup-seconds,
+ * load.duration-seconds, load.jobs, load.applicants, stub.latency.median-ms, stub.latency.p99-ms,
+ * stub.error-rate, load.max-error-rate and, when set, load.max-p99-ms. Each run appends its results to
+ * target/load-results.csv so runs can be compared.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+    private static final FastApiStub STUB = FastApiStub.start();
+    private static final String RECRUITER_EMAIL = "recruiter@load.test";
+
+    private static final int USERS = Integer.getInteger("load.users", 8);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 2));
+    private static final Duration MEASURED = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 10));
+    private static final int JOBS = Integer.getInteger("load.jobs", 50);
+    private static final int APPLICANTS = Integer.getInteger("load.applicants", 300);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final String MAX_P99_MS = System.getProperty("load.max-p99-ms");
+
+    private static final String[] SKILLS = {"java", "spring boot", "sql", "docker", "kubernetes", "python",
+            "react", "aws", "redis", "kafka", "typescript", "machine learning"};
+
+    @DynamicPropertySource
+    static void fastApi(DynamicPropertyRegistry registry) {
+        registry.add("fastapi.url", STUB::url);
+    }
+
+    // Redis calls fail over to misses in the caches; the suite measures the app without a Redis server
+    @MockitoBean(name = "stringRedisTemplate") private StringRedisTemplate redisTemplate;
+    @MockitoBean(name = "cacheRedisTemplate") private StringRedisTemplate cacheRedisTemplate;
+    @MockitoBean private EmailService emailService;
+
+    @Autowired private RecruiterRepo recruiterRepo;
+    @Autowired private StudentRepo studentRepo;
+    @Autowired private JobRepo jobRepo;
+    @Autowired private JobApplicationRepo applicationRepo;
+
+    @LocalServerPort private int port;
+
+    private final LoadGenerator generator = new LoadGenerator();
+    private final List<LoadGenerator.Result> results = new ArrayList<>();
+    private List<Student> students;
+    private Job closedJob;
+
+    @BeforeAll
+    void seed() {
+        STUB.defaults().latency(Double.parseDouble(System.getProperty("stub.latency.median-ms", "50")),
+                Double.parseDouble(System.getProperty("stub.latency.p99-ms", "400")));
+        STUB.defaults().errors(Double.parseDouble(System.getProperty("stub.error-rate", "0")), 500);
+
+        Recruiter recruiter = new Recruiter();
+        recruiter.setFullName("Load Recruiter");
+        recruiter.setEmail(RECRUITER_EMAIL);
+        recruiter.setCompanyName("Load Test Inc");
+        recruiter = recruiterRepo.save(recruiter);
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) jobs.add(job(recruiter, i, true));
+        jobRepo.saveAll(jobs);
+        closedJob = jobRepo.save(job(recruiter, JOBS, false));
+
+        students = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            Student student = new Student();
+            student.setRollNumber(String.format("LT%05d", i));
+            student.setFullName("Student " + i);
+            student.setEmail("student" + i + "@load.test");
+            student.setSkills(skills(i, 4));
+            student.setResumeUrl("https://storage.test/resumes/LT" + i + "_1700000000000.pdf");
+            student.setGithubUrl("https://github.com/student" + i);
+            student.setLeetcodeurl("https://leetcode.com/u/student" + i);
+            student.setClgName("Load College");
+            students.add(student);
+        }
+        studentRepo.saveAll(students);
+
+        List<JobApplication> applications = new ArrayList<>();
+        for (Student student : students) {
+            applications.add(JobApplication.builder().student(student).job(closedJob).status("PENDING").build());
+        }
+        applicationRepo.saveAll(applications);
+    }
+
+    @AfterAll
+    void report() throws IOException {
+        STUB.close();
+        Path csv = Path.of("target", "load-results.csv");
+        Files.createDirectories(csv.getParent());
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(csv)) {
+            lines.append("timestamp,scenario,users,requests,errors,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms\n");
+        }
+        String timestamp = Instant.now().toString();
+        for (LoadGenerator.Result r : results) {
+            lines.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n", timestamp,
+                    r.scenario(), r.users(), r.requests(), r.errors(), r.throughputPerSecond(),
+                    r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs()));
+        }
+        Files.writeString(csv, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        log.info("FastAPI stub calls: {}", STUB.calls());
+    }
+
+    // --- Scenarios ---
+
+    @Test
+    void jobFeed() {
+        measure("job-feed", USERS, n -> get("/api/jobs/feed?limit=20"));
+    }
+
+    @Test
+    void localScoredJobs() {
+        measure("local-scored-jobs", USERS, n -> get("/api/student/" + rollNumber(n) + "/get-local-scored-jobs"));
+    }
+
+    @Test
+    void liveScoredJobs() {
+        measure("live-scored-jobs", USERS, n -> get("/api/student/" + rollNumber(n) + "/get-scored-jobs/live"));
+    }
+
+    // A small set of repeated inputs: mostly served by the report cache
+    @Test
+    void skillGapReportRepeated() {
+        measure("skill-gap-report-repeated", USERS, n -> post("/api/jobs/skill-gap-report", reportRequest(n % 20)));
+    }
+
+    // Every request distinct: each one reaches FastAPI
+    @Test
+    void atsScoreDistinct() {
+        measure("ats-score-distinct", USERS, n -> post("/api/jobs/ats-score", reportRequest(n)));
+    }
+
+    @Test
+    void shortlist() {
+        measure("shortlist", Math.max(1, USERS / 4),
+                n -> post("/api/jobs/" + closedJob.getId() + "/shortlist?email=" + RECRUITER_EMAIL, ""));
+    }
+
+    @Test
+    void autoShortlist() {
+        measure("auto-shortlist", 1,
+                n -> post("/api/jobs/" + closedJob.getId() + "/auto-shortlist?email=" + RECRUITER_EMAIL, ""));
+    }
+
+    private void measure(String scenario, int users, LongFunction<HttpRequest> request) {
+        LoadGenerator.Result result = generator.run(scenario, users, WARMUP, MEASURED, request);
+        results.add(result);
+        log.info("{}", result);
+
+        assertTrue(result.requests() > 0, scenario + ": no request completed");
+        assertTrue(result.errorRate() <= MAX_ERROR_RATE,
+                scenario + ": error rate " + result.errorRate() + " above " + MAX_ERROR_RATE + " " + result.errorStatuses());
+        if (MAX_P99_MS != null) {
+            assertTrue(result.p99Ms() <= Double.parseDouble(MAX_P99_MS),
+                    scenario + ": p99 " + result.p99Ms() + "ms above " + MAX_P99_MS + "ms");
+        }
+    }
+
+    // --- Requests and data ---
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(130))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(130))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String rollNumber(long n) {
+        return students.get((int) (n % students.size())).getRollNumber();
+    }
+
+    private static String reportRequest(long n) {
+        return String.format(Locale.ROOT,
+                "{\"resume_url\":\"https://storage.test/resumes/R%d.pdf\",\"job_description\":\"%s\","
+                        + "\"github_url\":\"https://github.com/student%d\",\"leetcode_username\":\"student%d\"}",
+                n, description((int) (n % 7)), n, n);
+    }
+
+    private static Job job(Recruiter recruiter, int n, boolean active) {
+        return Job.builder()
+                .jobTitle("Engineer " + n)
+                .jobType(n % 3 == 0 ? "INTERNSHIP" : "FULL_TIME")
+                .location(n % 2 == 0 ? "Remote" : "Bengaluru")
+                .description(description(n))
+                .isActive(active)
+                .recruiter(recruiter)
+                .numberOfPostings(1)
+                .build();
+    }
+
+    private static String description(int n) {
+        return "We are hiring engineer " + n + " to design and maintain scalable backend services. "
+                + "Required skills: " + skills(n, 5) + ". Experience with CI/CD pipelines, code review and "
+                + "cross-functional collaboration is a plus.";
+    }
+
+    private static String skills(int n, int count) {
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < count; i++) picked.add(SKILLS[(n * 7 + i * 5) % SKILLS.length]);
+        return String.join(", ", picked);
+    }
+}
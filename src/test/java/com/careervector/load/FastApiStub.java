@@ -0,0 +1,246 @@
+package com.careervector.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-process stand-in for the FastAPI AI server on a JDK HttpServer. Every route the backend calls answers
+ * with well-formed JSON of the shape the real service returns, after a simulated latency. Latency is
+ * log-normal, given by its median and p99; a route can also fail a share of its calls with a chosen status:
+ * {@code stub.route("/rank-candidates-summary").latency(300, 1500).errors(0.02, 503)}.
+ * Routes without settings of their own follow {@link #defaults()}.
+ */
+public class FastApiStub implements AutoCloseable {
+
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    public static final class Route {
+        private volatile double medianMs;
+        private volatile double sigma;
+        private volatile double errorRate;
+        private volatile int errorStatus = 500;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        private Route(double medianMs, double sigma) {
+            this.medianMs = medianMs;
+            this.sigma = sigma;
+        }
+
+        public Route latency(double medianMs, double p99Ms) {
+            this.medianMs = medianMs;
+            this.sigma = p99Ms > medianMs && medianMs > 0 ? Math.log(p99Ms / medianMs) / Z_99 : 0;
+            return this;
+        }
+
+        public Route errors(double rate, int status) {
+            this.errorRate = rate;
+            this.errorStatus = status;
+            return this;
+        }
+
+        private long sampleLatencyMs() {
+            if (medianMs <= 0) return 0;
+            return Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Route defaults = new Route(0, 0);
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final Map<String, Function<JsonNode, Object>> responders = new HashMap<>();
+
+    private FastApiStub() throws IOException {
+        responders.put("/rank-candidates-summary", FastApiStub::rankCandidates);
+        responders.put("/match-student-jds", FastApiStub::matchStudentJds);
+        responders.put("/skill-gap-report", request -> skillGapReport());
+        responders.put("/learning-path", request -> learningPath());
+        responders.put("/job-readiness", request -> Map.of("job_readiness_score", 0.72, "readiness_level", "moderate"));
+        responders.put("/failure-diagnosis", request -> Map.of("primary_reasons", List.of("Limited project depth"),
+                "recommendations", List.of("Build one end-to-end project")));
+        responders.put("/ats-check", request -> Map.of("ats_score", 78, "issues", List.of("Missing summary section")));
+        responders.put("/extract-skills", request -> Map.of("skills", List.of("java", "spring boot", "sql")));
+        responders.put("/recruiter/decision-by-jd-text", request -> Map.of("status", "ok"));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static FastApiStub start() {
+        try {
+            FastApiStub stub = new FastApiStub();
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start FastAPI stub", e);
+        }
+    }
+
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public Route defaults() {
+        return defaults;
+    }
+
+    /** Settings for one path (without query string); starts from the current defaults. */
+    public Route route(String path) {
+        return routes.computeIfAbsent(path, p -> {
+            Route route = new Route(defaults.medianMs, defaults.sigma);
+            route.errorRate = defaults.errorRate;
+            route.errorStatus = defaults.errorStatus;
+            return route;
+        });
+    }
+
+    /** Calls received per path. */
+    public Map<String, Long> calls() {
+        Map<String, Long> calls = new TreeMap<>();
+        routes.forEach((path, route) -> calls.put(path, route.calls.get()));
+        return calls;
+    }
+
+    public long errors(String path) {
+        Route route = routes.get(path);
+        return route == null ? 0 : route.errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Route route = route(path);
+            route.calls.incrementAndGet();
+            JsonNode request = readBody(exchange);
+
+            Thread.sleep(route.sampleLatencyMs());
+            if (route.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < route.errorRate) {
+                route.errors.incrementAndGet();
+                respond(exchange, route.errorStatus, Map.of("detail", "Simulated failure"));
+                return;
+            }
+            Function<JsonNode, Object> responder = responders.getOrDefault(path, r -> Map.of());
+            respond(exchange, 200, responder.apply(request));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Request bodies may arrive gzipped (http.fastapi.compression.enabled)
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+        byte[] bytes = body.readAllBytes();
+        return bytes.length == 0 ? mapper.createObjectNode() : mapper.readTree(bytes);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    // --- Responses; scores are derived from the ids so repeated runs rank the same way ---
+
+    private static double score(String id, String salt) {
+        return (Math.floorMod(Objects.hash(id, salt), 1000)) / 1000.0;
+    }
+
+    private static String status(double score) {
+        return score >= 0.7 ? "shortlist" : score >= 0.4 ? "review" : "reject";
+    }
+
+    private static Object rankCandidates(JsonNode request) {
+        String jd = request.path("job_description").asText();
+        List<Map<String, Object>> ranked = new ArrayList<>();
+        for (JsonNode candidate : request.path("candidates")) {
+            String id = candidate.path("student_id").asText();
+            double score = score(id, jd);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("student_id", id);
+            row.put("final_score", score);
+            row.put("status", status(score));
+            ranked.add(row);
+        }
+        ranked.sort(Comparator.comparingDouble((Map<String, Object> row) -> (double) row.get("final_score")).reversed());
+        for (int i = 0; i < ranked.size(); i++) ranked.get(i).put("rank", i + 1);
+        return ranked;
+    }
+
+    private static Object matchStudentJds(JsonNode request) {
+        String studentId = request.path("student_profile").path("student_id").asText();
+        List<Map<String, Object>> results = new ArrayList<>();
+        int rank = 0;
+        for (JsonNode jd : request.path("jds")) {
+            String jdId = jd.path("jd_id").asText();
+            double score = score(studentId, jdId);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("jd_id", jdId);
+            row.put("rank", ++rank);
+            row.put("final_score", score);
+            row.put("status", status(score));
+            row.put("reason", "Simulated match");
+            row.put("role_level", "entry");
+            row.put("job_readiness_score", score);
+            row.put("readiness_level", score >= 0.7 ? "ready" : "developing");
+            results.add(row);
+        }
+        return results;
+    }
+
+    private static Object skillGapReport() {
+        return Map.of(
+                "matched_skills", List.of("java", "sql"),
+                "missing_skills", List.of(Map.of("skill", "kubernetes", "priority", "high", "weight", 0.8)),
+                "overall_match_score", 0.64,
+                "external_validation", Map.of(
+                        "github_confirmed", List.of("java"),
+                        "leetcode_indicators", List.of("arrays"),
+                        "confidence_notes", List.of("Simulated report")));
+    }
+
+    private static Object learningPath() {
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("step", 1);
+        step.put("skill", "kubernetes");
+        step.put("skill_type", "tool");
+        step.put("priority", "high");
+        step.put("estimated_time_weeks", 3);
+        step.put("resources", List.of("https://kubernetes.io/docs/tutorials/"));
+        step.put("detailed_roadmap", Map.of("estimated_total_weeks", 3,
+                "levels", List.of(Map.of("level", 1, "name", "Basics", "duration_weeks", 3, "topics", List.of("pods")))));
+        step.put("prerequisites", List.of("docker"));
+        step.put("graph", Map.of("nodes", List.of(Map.of("id", "k8s", "label", "Kubernetes", "type", "skill")),
+                "edges", List.of()));
+        step.put("outcome", "Deploy a service");
+        return Map.of("target_role", "Backend Engineer", "estimated_readiness_weeks", 3, "learning_path", List.of(step));
+    }
+}
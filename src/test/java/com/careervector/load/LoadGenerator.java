@@ -0,0 +1,116 @@
+package com.careervector.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Closed-loop load: {@code users} threads each send a request, wait for the whole response, and send the next,
+ * for the warm-up period and then the measured period. Requests that complete during warm-up are not counted;
+ * one still running when the measured period ends is waited for and counted, so scenarios slower than the
+ * period still report. {@code request} receives a running sequence number so scenarios can vary their input.
+ */
+final class LoadGenerator {
+
+    record Result(String scenario, int users, long requests, long errors, Map<Integer, Long> errorStatuses,
+                  double throughputPerSecond, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%-28s users=%-3d requests=%-6d errors=%-4d %s throughput=%.2f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    scenario, users, requests, errors, errorStatuses.isEmpty() ? "" : errorStatuses,
+                    throughputPerSecond, p50Ms, p95Ms, p99Ms, maxMs);
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    Result run(String scenario, int users, Duration warmup, Duration measured, LongFunction<HttpRequest> request) {
+        AtomicLong sequence = new AtomicLong();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long stopAt = measureFrom + measured.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        List<Future<long[]>> latencies = new ArrayList<>();
+        Map<Integer, Long> errorStatuses = new ConcurrentHashMap<>();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong lastDone = new AtomicLong(stopAt);
+        for (int u = 0; u < users; u++) {
+            latencies.add(workers.submit(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < stopAt) {
+                    long sent = System.nanoTime();
+                    int status = send(request.apply(sequence.getAndIncrement()));
+                    long done = System.nanoTime();
+                    if (done < measureFrom) continue;
+                    lastDone.accumulateAndGet(done, Math::max);
+
+                    if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+                    samples[count++] = done - sent;
+                    if (status >= 400 || status < 0) {
+                        errors.incrementAndGet();
+                        errorStatuses.merge(status, 1L, Long::sum);
+                    }
+                }
+                return Arrays.copyOf(samples, count);
+            }));
+        }
+
+        long[] all = new long[0];
+        try {
+            for (Future<long[]> future : latencies) {
+                long[] samples = future.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + samples.length);
+                System.arraycopy(samples, 0, all, offset, samples.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        Arrays.sort(all);
+        double seconds = (lastDone.get() - measureFrom) / 1e9;
+        return new Result(scenario, users, all.length, errors.get(), new TreeMap<>(errorStatuses),
+                all.length / seconds, percentileMs(all, 0.50), percentileMs(all, 0.95), percentileMs(all, 0.99),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    // Status code, or -1 when the request failed without a response; the body is read in full and discarded
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,166 @@
+package com.careervector.service;
+
+import com.careervector.config.AsyncConfig;
+import com.careervector.dto.fastapi;
+import com.careervector.model.Job;
+import com.careervector.model.JobApplication;
+import com.careervector.model.Recruiter;
+import com.careervector.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// The student job feed must cost the same number of SQL statements however many jobs are active
+@DataJpaTest(properties = {
+        // Student has a column named "year", a keyword in H2
+        "spring.datasource.url=jdbc:h2:mem:job-feed;MODE=PostgreSQL;NON_KEYWORDS=YEAR,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "fastapi.url=http://fastapi.test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobService.class, MatchingService.class, SkillDictionary.class, JobKeywordIndex.class, JobDuplicateIndex.class, FastApiClient.class, FastApiResilience.class, ChunkedRanker.class, AsyncConfig.class})
+class JobFeedQueryCountTest {
+
+    // Student by id, active jobs with their recruiters, the student's applications
+    private static final long FEED_QUERIES = 3;
+
+    @Autowired private JobService jobService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoBean private EmailService emailService;
+    @MockitoBean private AiScoreCache aiScoreCache;
+    @MockitoBean private AiReportCache aiReportCache;
+    @MockitoBean(name = "fastApiRestTemplate") private RestTemplate fastApiRestTemplate;
+
+    private Statistics statistics;
+    private Student student;
+    private int jobCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        student = new Student();
+        student.setRollNumber("21CS001");
+        student.setEmail("student@college.test");
+        student.setSkills("java, spring boot, sql");
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(student));
+        when(fastApiRestTemplate.postForObject(anyString(), any(), eq(fastapi.StudentMatchResponse[].class)))
+                .thenReturn(new fastapi.StudentMatchResponse[0]);
+    }
+
+    @Test
+    void keywordFeedQueryCountDoesNotGrowWithJobs() {
+        addJobsWithRecruiters(2);
+        assertEquals(FEED_QUERIES, countStatements(() -> jobService.getJobsWithScores(student.getRollNumber())));
+
+        addJobsWithRecruiters(10);
+        assertEquals(FEED_QUERIES, countStatements(() -> jobService.getJobsWithScores(student.getRollNumber())));
+    }
+
+    // Tests without the test transaction commit their data; drop it so the next test starts empty
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM JobApplication").executeUpdate();
+            entityManager.createQuery("DELETE FROM Job").executeUpdate();
+            entityManager.createQuery("DELETE FROM Recruiter").executeUpdate();
+            entityManager.createQuery("DELETE FROM Student").executeUpdate();
+        });
+    }
+
+    // The live feed reads in its own transaction, which would not see data left uncommitted in the test's
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void aiFeedQueryCountDoesNotGrowWithJobs() {
+        addJobsWithRecruiters(2);
+        assertEquals(FEED_QUERIES, countStatements(() -> jobService.getJobsWithAiScoring(student.getRollNumber())));
+
+        addJobsWithRecruiters(10);
+        assertEquals(FEED_QUERIES, countStatements(() -> jobService.getJobsWithAiScoring(student.getRollNumber())));
+    }
+
+    @Test
+    void feedStillReportsApplications() {
+        addJobsWithRecruiters(3);
+        Job applied = entityManager.createQuery("SELECT j FROM Job j ORDER BY j.id", Job.class).getResultList().get(0);
+        JobApplication application = JobApplication.builder()
+                .student(student)
+                .job(applied)
+                .status("SHORTLISTED")
+                .isMailSent(true)
+                .build();
+        entityManager.persist(application);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, Object>> feed = jobService.getJobsWithScores(student.getRollNumber());
+        for (Map<String, Object> entry : feed) {
+            boolean isApplied = ((Job) entry.get("job")).getId().equals(applied.getId());
+            assertEquals(isApplied, entry.get("hasApplied"));
+            assertEquals(isApplied ? "SHORTLISTED" : null, entry.get("applicationStatus"));
+            assertEquals(isApplied, entry.get("mailSent"));
+        }
+    }
+
+    // One recruiter per job, the worst case for the EAGER recruiter association
+    private void addJobsWithRecruiters(int count) {
+        transactionTemplate.executeWithoutResult(status -> persistJobsWithRecruiters(count));
+    }
+
+    private void persistJobsWithRecruiters(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = jobCount++;
+            Recruiter recruiter = new Recruiter();
+            recruiter.setFullName("Recruiter " + n);
+            recruiter.setEmail("recruiter" + n + "@company.test");
+            entityManager.persist(recruiter);
+
+            Job job = Job.builder()
+                    .jobTitle("Backend Engineer " + n)
+                    .jobType("FULL_TIME")
+                    .location("Remote")
+                    .description("Java developer " + n + " with spring boot, sql and docker experience")
+                    .isActive(true)
+                    .recruiter(recruiter)
+                    .numberOfPostings(1)
+                    .build();
+            entityManager.persist(job);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Runnable feed) {
+        entityManager.clear();
+        statistics.clear();
+        feed.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,85 @@
+package com.careervector.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Regex split vs. char-scanning tokenizer on job descriptions of realistic size.
+ * Run with: mvn test-compile, then start {@link #main} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordTokenizerBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "We", "are", "looking", "for", "a", "Software", "Engineer", "with", "experience", "in", "Java",
+            "Spring", "Boot", "microservices", "REST", "APIs", "PostgreSQL", "Redis", "Kubernetes", "Docker",
+            "CI/CD", "pipelines", "AWS", "GCP", "and", "strong", "problem-solving", "skills.", "Responsibilities:",
+            "design,", "develop", "maintain", "scalable", "backend", "services;", "collaborate", "cross_functional",
+            "teams", "(3+", "years)", "B.Tech", "CS/IT", "React.js", "TypeScript", "C++", "Python3", "ML", "a/b"
+    };
+
+    @Param({"2048", "8192", "20480"})
+    public int descriptionBytes;
+
+    private String description;
+    private final MatchingService matchingService = new MatchingService(new SkillDictionary());
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer();
+
+    @Setup
+    public void generateDescription() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(descriptionBytes + 32);
+        while (sb.length() < descriptionBytes) {
+            sb.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            sb.append(random.nextInt(12) == 0 ? "\n- " : " ");
+        }
+        description = sb.toString();
+    }
+
+    @Benchmark
+    public Set<String> regexSplit() {
+        return Arrays.stream(description.toLowerCase().split("[\\W_]+"))
+                .filter(word -> word.length() > 2)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Set<String> charScanner() {
+        Set<String> keywords = new HashSet<>();
+        tokenizer.tokenize(description, (term, length) -> keywords.add(new String(term, 0, length)));
+        return keywords;
+    }
+
+    // What MatchingService does today: tokens straight to dictionary ids, no Strings
+    @Benchmark
+    public TermSet dictionaryEncode() {
+        return matchingService.encode(description);
+    }
+
+    // Tokenizer cost alone, without building the keyword set
+    @Benchmark
+    public void charScannerTermsOnly(Blackhole blackhole) {
+        tokenizer.tokenize(description, (term, length) -> blackhole.consume(length));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KeywordTokenizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.careervector.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The scanner must produce exactly the terms of the regex split it replaced
+class KeywordTokenizerTest {
+
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "Java Spring Boot developer with REST APIs",
+            "CI/CD, Kubernetes; (3+ years) B.Tech CS/IT -- React.js & C++",
+            "Python3 py2 2024 10x ES2015 k8s 1234567",
+            "snake_case_name __init__ cross_functional a_b",
+            "Café naïve Größe Ærø résumé",
+            "Русский язык разработчик Java",
+            "中文 Java 日本語 Spring",
+            "Kotlin KUBERNETES K8s KKK",
+            "İSTANBUL İndia DİGITAL İİİ abİcd",
+            "   leading and trailing   ",
+            "tab\tnew\nline\r\nbreaks",
+    })
+    void matchesRegexSplit(String text) {
+        assertEquals(regexTerms(text), scannerTerms(text));
+    }
+
+    @Test
+    void matchesRegexSplitOnRandomText() {
+        String alphabet = "abcXYZ019_ -.,/éü中ЖKİ\t";
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            assertEquals(regexTerms(text.toString()), scannerTerms(text.toString()), () -> "Input: " + text);
+        }
+    }
+
+    @Test
+    void longTermsGrowTheBuffer() {
+        String term = "a".repeat(100);
+        assertEquals(List.of(term, "abc"), scannerTerms(term + " abc"));
+    }
+
+    // The old path: lowercase, split on [\W_]+, keep terms longer than two characters
+    private static List<String> regexTerms(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[\\W_]+"))
+                .filter(term -> term.length() > 2)
+                .toList();
+    }
+
+    private List<String> scannerTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        tokenizer.tokenize(text, (term, length) -> terms.add(new String(term, 0, length)));
+        return terms;
+    }
+}
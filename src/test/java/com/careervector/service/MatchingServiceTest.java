@@ -0,0 +1,67 @@
+package com.careervector.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A recognized skill mention is one term, not its words plus the skill; student text never grows the dictionary
+class MatchingServiceTest {
+
+    private final MatchingService matching = new MatchingService(new SkillDictionary());
+
+    @Test
+    void multiwordSkillCountsOnce() {
+        TermSet terms = matching.encode("Spring   Boot developer");
+        assertEquals(2, terms.size());
+        assertEquals(2, terms.length());
+        assertEquals(ids(terms), ids(matching.encode("spring boot, developer")));
+    }
+
+    @Test
+    void aliasReplacesItsToken() {
+        assertEquals(ids(matching.encode("kubernetes")), ids(matching.encode("k8s")));
+        assertEquals(ids(matching.encode("springboot")), ids(matching.encode("Spring-Boot")));
+    }
+
+    @Test
+    void nestedAliasesCountAsTheLongestMention() {
+        assertEquals(ids(matching.encode("react developer")), ids(matching.encode("React js developer")));
+        assertEquals(0.0, matching.calculateMatchScore("javascript", "React js developer"));
+        assertEquals(ids(matching.encode("genai")), ids(matching.encode("generative ai")));
+        TermSet c = matching.encode("c programming");
+        assertEquals(1, c.size());
+        assertEquals(1, c.length());
+    }
+
+    @Test
+    void shortWordsInProseAreNotSkills() {
+        assertEquals(ids(matching.encode("team")), ids(matching.encode("R&D team")));
+        assertEquals(ids(matching.encode("market")), ids(matching.encode("Go to market")));
+        assertEquals(ids(matching.encode("golang")), ids(matching.encode("Go lang")));
+    }
+
+    @Test
+    void tokensOutsideMentionsAreKept() {
+        assertEquals(100.0, matching.calculateMatchScore("spring boot, kafka", "Kafka and Spring Boot services"));
+        assertEquals(50.0, matching.calculateMatchScore("spring boot, kafka", "Kafka and Spring services"));
+    }
+
+    @Test
+    void queryTermsStayOutOfTheDictionary() {
+        assertTrue(matching.encodeQuery("zyxwvut").id(0) < 0);
+        assertEquals(2, matching.encodeQuery("zyxwvut qponmlk zyxwvut").size());
+        int id = matching.encode("zyxwvut").id(0);
+        assertEquals(id, matching.encodeQuery("zyxwvut").id(0));
+        assertEquals(50.0, matching.calculateMatchScore("kafka, onmlkji", "Kafka services"));
+    }
+
+    private static List<Integer> ids(TermSet terms) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) ids.add(terms.id(i));
+        return ids;
+    }
+}